@@ -0,0 +1,180 @@
+package org.claspina.confirmdialog;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identifies a button of a {@link ConfirmDialog}. There is one identifier per {@link ButtonType}, custom buttons can be
+ * identified by registering further identifiers with {@link #register(String)}.
+ * <p>
+ * Each identifier has a dense index, that is stable for the lifetime of the application. The index of a built-in
+ * identifier is the ordinal of its {@link ButtonType}, custom identifiers follow in the order of their registration.
+ *
+ * @author Carlos Laspina
+ */
+public final class ButtonId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ButtonId[] BUILT_IN;
+
+    private static final Map<String, ButtonId> CUSTOM = new ConcurrentHashMap<>();
+
+    /**
+     * Keeps all identifiers indexed by their index. The array is replaced by a grown copy on each registration.
+     */
+    private static volatile ButtonId[] byIndex;
+
+    private static int count;
+
+    static {
+        ButtonType[] buttonTypes = ButtonType.values();
+        BUILT_IN = new ButtonId[buttonTypes.length];
+        for (ButtonType buttonType : buttonTypes) {
+            BUILT_IN[buttonType.ordinal()] = new ButtonId(buttonType.name(), buttonType.ordinal(), buttonType);
+        }
+        count = buttonTypes.length;
+        byIndex = BUILT_IN.clone();
+    }
+
+    private final String name;
+
+    private final int index;
+
+    private final ButtonType buttonType;
+
+    private ButtonId(String name, int index, ButtonType buttonType) {
+        this.name = name;
+        this.index = index;
+        this.buttonType = buttonType;
+    }
+
+    /**
+     * Returns the identifier of the given button type.
+     *
+     * @param buttonType The button type
+     * @return The identifier
+     */
+    public static ButtonId of(ButtonType buttonType) {
+        return BUILT_IN[buttonType.ordinal()];
+    }
+
+    /**
+     * Registers a custom identifier. If an identifier with the given name is already registered, it is returned.
+     *
+     * @param name The name of the identifier. It is also the caption key of the custom button, see
+     *             {@link org.claspina.confirmdialog.i18n.DialogMessageFactory}.
+     * @return The identifier
+     */
+    public static ButtonId register(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("The name of a button identifier must not be empty.");
+        }
+        for (ButtonId builtIn : BUILT_IN) {
+            if (builtIn.name.equals(name)) {
+                throw new IllegalArgumentException("The name '" + name + "' is reserved for a ButtonType.");
+            }
+        }
+
+        ButtonId id = CUSTOM.get(name);
+        if (id == null) {
+            synchronized (CUSTOM) {
+                id = CUSTOM.get(name);
+                if (id == null) {
+                    id = new ButtonId(name, count++, null);
+                    ButtonId[] ids = Arrays.copyOf(byIndex, count);
+                    ids[id.index] = id;
+                    byIndex = ids;
+                    CUSTOM.put(name, id);
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Returns the identifier with the given index.
+     *
+     * @param index The index
+     * @return The identifier or <code>null</code>, if no identifier has the index
+     */
+    static ButtonId byIndex(int index) {
+        ButtonId[] ids = byIndex;
+        return index >= 0 && index < ids.length ? ids[index] : null;
+    }
+
+    /**
+     * Returns the number of registered identifiers, including the built-in ones. All indices are lower than this
+     * number.
+     *
+     * @return The number of registered identifiers
+     */
+    public static int getCount() {
+        synchronized (CUSTOM) {
+            return count;
+        }
+    }
+
+    /**
+     * Returns the name of the identifier.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the dense index of the identifier.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the button type of a built-in identifier.
+     *
+     * @return The button type or <code>null</code> for a custom identifier
+     */
+    public ButtonType getButtonType() {
+        return buttonType;
+    }
+
+    /**
+     * Returns <code>true</code>, if this is a custom identifier.
+     *
+     * @return <code>true</code> for a custom identifier
+     */
+    public boolean isCustom() {
+        return buttonType == null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private Object readResolve() {
+        return buttonType != null ? of(buttonType) : register(name);
+    }
+
+    /**
+     * Returns the given array, grown to hold the given index.
+     *
+     * @param array The array
+     * @param index The index
+     * @param <T>   The component type
+     * @return The given array or a grown copy
+     */
+    static <T> T[] ensureCapacity(T[] array, int index) {
+        if (index < array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(index + 1, getCount()));
+    }
+
+}
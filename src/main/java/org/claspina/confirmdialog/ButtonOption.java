@@ -1,6 +1,7 @@
 package org.claspina.confirmdialog;
 
 
+import com.vaadin.flow.component.ComponentUtil;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.icon.Icon;
 import com.vaadin.flow.component.icon.VaadinIcon;
@@ -13,6 +14,12 @@ import com.vaadin.flow.component.icon.VaadinIcon;
  */
 public abstract class ButtonOption {
 
+    /**
+     * The key of the component data, that marks a button, that closes the dialog on clicking. The value is a
+     * <code>Boolean</code>, so the button stays serializable.
+     */
+    static final String CLOSE_ON_CLICK_KEY = "confirm-dialog-close-on-click";
+
     /**
      * Is used internally.
      *
@@ -22,8 +29,8 @@ public abstract class ButtonOption {
     public abstract void apply(ConfirmDialog confirmDialog, Button button);
 
     /**
-     * s
-     * Focuses the corresponding Button.
+     * Focuses the corresponding Button. The focus is declared by the attribute <code>autofocus</code> and applied by
+     * the browser, when the dialog is opened.
      *
      * @return The ButtonOption
      */
@@ -35,7 +42,7 @@ public abstract class ButtonOption {
              */
             @Override
             public void apply(ConfirmDialog confirmDialog, Button button) {
-                button.focus();
+                button.getElement().setAttribute("autofocus", true);
             }
 
         };
@@ -133,12 +140,8 @@ public abstract class ButtonOption {
          */
         @Override
         public void apply(final ConfirmDialog confirmDialog, Button button) {
-            if (closeOnClick) {
-                button.addClickListener(buttonClickEvent -> {
-                    confirmDialog.close();
-                });
-
-            }
+            // evaluated by the decision listener of the dialog
+            ComponentUtil.setData(button, CLOSE_ON_CLICK_KEY, closeOnClick ? Boolean.TRUE : null);
         }
 
     }
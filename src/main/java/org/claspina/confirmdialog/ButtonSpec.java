@@ -0,0 +1,85 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import org.claspina.confirmdialog.icons.IconSprite;
+
+import java.io.Serializable;
+
+/**
+ * The immutable specification of a button: the theme variant, the icon and the key of the caption. A specification is
+ * computed once per {@link ButtonId} and configuration and shared by all dialogs.
+ *
+ * @author Carlos Laspina
+ */
+public final class ButtonSpec implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ButtonId id;
+
+    private final String theme;
+
+    private final VaadinIcon icon;
+
+    private final IconSprite iconSprite;
+
+    /**
+     * Creates the specification.
+     *
+     * @param id         The button identifier, that is the key of the caption
+     * @param theme      The theme variant, e.g. <code>primary</code>, or <code>null</code>
+     * @param icon       The icon or <code>null</code>
+     * @param iconSprite The icon sprite, that provides the icon, or <code>null</code> for the complete iconset
+     */
+    public ButtonSpec(ButtonId id, String theme, VaadinIcon icon, IconSprite iconSprite) {
+        this.id = id;
+        this.theme = theme;
+        this.icon = icon;
+        this.iconSprite = iconSprite;
+    }
+
+    /**
+     * Returns the button identifier, that is the key of the caption.
+     *
+     * @return The button identifier
+     */
+    public ButtonId getId() {
+        return id;
+    }
+
+    /**
+     * Returns the theme variant.
+     *
+     * @return The theme variant or <code>null</code>
+     */
+    public String getTheme() {
+        return theme;
+    }
+
+    /**
+     * Returns the icon.
+     *
+     * @return The icon or <code>null</code>
+     */
+    public VaadinIcon getIcon() {
+        return icon;
+    }
+
+    /**
+     * Applies caption, theme variant and icon to the given button.
+     *
+     * @param button  The button
+     * @param caption The translated caption
+     */
+    public void apply(Button button, String caption) {
+        button.setText(caption);
+        if (theme != null) {
+            button.getElement().setAttribute("theme", theme);
+        }
+        if (icon != null) {
+            button.setIcon(iconSprite == null ? icon.create() : iconSprite.createIcon(icon));
+        }
+    }
+
+}
@@ -1,27 +1,57 @@
 package org.claspina.confirmdialog;
 
 import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.ClickEvent;
+import com.vaadin.flow.component.ComponentEventListener;
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.dependency.HtmlImport;
+import com.vaadin.flow.component.dependency.StyleSheet;
 import com.vaadin.flow.component.dialog.Dialog;
 import com.vaadin.flow.component.html.H4;
 import com.vaadin.flow.component.html.H5;
 import com.vaadin.flow.component.icon.Icon;
-import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.BoxSizing;
 import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.dom.ElementConstants;
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.server.Command;
+import com.vaadin.flow.server.ErrorEvent;
 import com.vaadin.flow.server.VaadinSession;
+import com.vaadin.flow.shared.Registration;
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import org.claspina.confirmdialog.i18n.BeanMessageTemplate;
 import org.claspina.confirmdialog.i18n.ButtonCaptionFactory;
+import org.claspina.confirmdialog.i18n.DialogMessageFactory;
 import org.claspina.confirmdialog.icons.ButtonIconFactory;
+import org.claspina.confirmdialog.icons.DialogIconDescriptor;
 import org.claspina.confirmdialog.icons.DialogIconFactory;
-import org.claspina.confirmdialog.icons.VaadinButtonIconFactory;
-import org.claspina.confirmdialog.icons.VaadinDialogIconFactory;
-
+import org.claspina.confirmdialog.icons.DialogSeverity;
+import org.claspina.confirmdialog.icons.IconSprite;
+import org.claspina.confirmdialog.icons.IconSpriteGenerator;
+import org.claspina.confirmdialog.icons.SpriteIcon;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 /**
  * <p><b>NOTICE</b></p>
@@ -91,80 +121,151 @@ import java.util.Locale;
  * @author Dieter Steinwedel
  * @author Carlos Laspina
  */
+@StyleSheet("frontend://confirm-dialog/confirm-dialog.css")
+@HtmlImport("frontend://confirm-dialog/confirm-dialog-keys.html")
+@HtmlImport("frontend://confirm-dialog/confirm-dialog-decision.html")
+@HtmlImport("frontend://confirm-dialog/confirm-dialog-notice.html")
 public class ConfirmDialog extends Dialog {
 
     private static final long serialVersionUID = 1L;
 
-    // default configurations =================================================
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfirmDialog.class);
+
+    /**
+     * The CSS class name of the dialog icon, that is defined in the stylesheet of the dialog.
+     */
+    private static final String ICON_STYLE_NAME = "confirm-dialog-icon";
+
+    /**
+     * The CSS custom property, that overrides the size of the dialog icon.
+     */
+    private static final String ICON_SIZE_PROPERTY = "--confirm-dialog-icon-size";
+
+    /**
+     * The CSS custom property, that overrides the width of the dialog icon.
+     */
+    private static final String ICON_WIDTH_PROPERTY = "--confirm-dialog-icon-width";
+
+    /**
+     * The CSS custom property, that overrides the height of the dialog icon.
+     */
+    private static final String ICON_HEIGHT_PROPERTY = "--confirm-dialog-icon-height";
+
+    /**
+     * The CSS class name of the button layout, that is defined in the stylesheet of the dialog.
+     */
+    private static final String BUTTON_LAYOUT_STYLE_NAME = "confirm-dialog-buttons";
+
+    /**
+     * The CSS class name, that applies the width of {@link #BUTTON_WIDTH_PROPERTY} to all buttons.
+     */
+    private static final String BUTTON_WIDTH_STYLE_NAME = "confirm-dialog-button-width";
+
+    /**
+     * The CSS custom property, that defines the width of all buttons.
+     */
+    private static final String BUTTON_WIDTH_PROPERTY = "--confirm-dialog-button-width";
 
     /**
-     * Keeps the reference of the TransistionListener
+     * The CSS custom property, that overrides the alignment of the buttons.
      */
-    protected static TransitionListener DIALOG_DEFAULT_TRANSITION_LISTENER;
+    private static final String BUTTON_ALIGNMENT_PROPERTY = "--confirm-dialog-button-alignment";
+
     /**
-     * Keeps the current configured language, that is applied application scoped
+     * The attribute, that binds a key to a button in the browser, see <code>confirm-dialog-keys.html</code>.
      */
-    protected static Locale DIALOG_DEFAULT_LOCALE = Locale.ENGLISH;
+    static final String BUTTON_KEY_ATTRIBUTE = "confirm-dialog-key";
 
     /**
-     * Keeps the reference of the {@link DialogIconFactory}
+     * The attribute, that keeps the index of a button in the dialog, see <code>confirm-dialog-decision.html</code>.
      */
-    protected static DialogIconFactory DIALOG_DEFAULT_ICON_FACTORY = new VaadinDialogIconFactory();
+    private static final String BUTTON_DECISION_ATTRIBUTE = "confirm-dialog-decision";
 
     /**
-     * Keeps the icon default width and height
+     * The attribute, that marks a client-resolved button, which closes the dialog in the browser.
      */
-    protected static String DIALOG_DEFAULT_ICON_SIZE = "48px";
+    private static final String BUTTON_CLOSE_ATTRIBUTE = "confirm-dialog-close";
 
     /**
-     * Keeps the button default alignment
+     * The event, that the browser fires on the dialog, when a button is clicked.
      */
-    protected static FlexComponent.Alignment BUTTON_DEFAULT_ALIGNMENT = FlexComponent.Alignment.END;
+    private static final String DECISION_EVENT = "confirm-dialog-decision";
+
+    private static final String DECISION_EVENT_INDEX = "event.detail.index";
+
+    private static final String DECISION_EVENT_TOKEN = "event.detail.token";
 
     /**
-     * Keeps the reference to the {@link ButtonCaptionFactory}
+     * The attribute of the dialog, that keeps the single-use token of the next decision.
      */
-    protected static ButtonCaptionFactory BUTTON_DEFAULT_CAPTION_FACTORY = new ButtonCaptionFactory();
+    private static final String DECISION_TOKEN_ATTRIBUTE = "confirm-dialog-token";
 
     /**
-     * Keeps the reference to the {@link ButtonIconFactory}
+     * The attribute, that marks the button, whose handler is running, see {@link #withHandlerExecutor(Executor)}.
      */
-    protected static ButtonIconFactory BUTTON_DEFAULT_ICON_FACTORY = new VaadinButtonIconFactory();
+    private static final String BUTTON_BUSY_ATTRIBUTE = "confirm-dialog-busy";
 
     /**
-     * Keeps default configuration of the visibility of the button icons
+     * The prefix of all CSS custom properties of the dialog.
      */
-    protected static boolean BUTTON_DEFAULT_ICONS_VISIBLE = true;
+    private static final String PROPERTY_PREFIX = "--confirm-dialog-";
 
     /**
-     * If no button is added and this property is set to true (default), an close button is added.
+     * The size of the dialog icon, that is defined in the stylesheet of the dialog.
      */
-    protected static boolean BUTTON_ADD_CLOSE_PER_DEFAULT = true;
+    static final String ICON_STYLE_SIZE = "48px";
 
     // dialog specific configurations =========================================
 
     /**
-     * The main layout for the ConfirmDialog.
+     * The configuration, that this dialog was created with, see {@link ConfirmDialogConfig#getCurrent()}
+     */
+    protected ConfirmDialogConfig config;
+
+    /**
+     * The main layout for the ConfirmDialog. It is created, when the dialog is opened, see {@link #buildLayout()}.
      */
     protected VerticalLayout mainLayout;
 
     /**
-     * The content layout for the ConfirmDialog. It is the first item in the {@link #mainLayout}.
+     * The content layout for the ConfirmDialog. It is the first item in the {@link #mainLayout}. It is created, when
+     * the dialog is opened.
      */
     protected HorizontalLayout contentLayout;
 
     /**
-     * The button layout for the ConfirmDialog. It is the second item in the {@link #mainLayout}.
+     * The button layout for the ConfirmDialog. It is the second item in the {@link #mainLayout}. It is created, when
+     * the dialog is opened.
      */
     protected HorizontalLayout buttonLayout;
 
+    /**
+     * The caption of the message dialog
+     */
+    protected String caption;
+
+    /**
+     * The plain text message of the message dialog. It is only set, if no {@link #messageComponent} is set.
+     */
+    protected String message;
+
+    /**
+     * The added buttons in the order of the dialog
+     */
+    protected List<Button> buttonList = new ArrayList<>();
+
+    /**
+     * The CSS custom properties, that are applied to the root of the dialog content, when the dialog is opened
+     */
+    protected Map<String, String> styleProperties = new LinkedHashMap<>();
+
     /**
      * The dialog icon for the message box. It is typically the first item in the {@link #contentLayout}.
      */
-    protected Icon icon;
+    protected Component icon;
 
     /**
-     * The component, that displays message. By default it is a label. Typically, this component is the second item in the {@link #contentLayout}.
+     * The component, that displays a custom message. Typically, this component is the second item in the {@link #contentLayout}.
      */
     protected Component messageComponent;
 
@@ -189,19 +290,125 @@ public class ConfirmDialog extends Dialog {
     protected boolean immutable;
 
     /**
-     * Stores the button instance to a button type
+     * Stores the button instance to a button identifier. It is created, when the first button is bound.
+     */
+    protected Button[] buttons;
+
+    /**
+     * The language of the button captions and translated messages. It is resolved once per dialog, when it is
+     * needed first.
+     */
+    protected Locale captionLanguage;
+
+    /**
+     * The component, that displays the caption. It is created with the layout and kept, so a pooled dialog can reuse
+     * it.
+     */
+    protected H4 captionComponent;
+
+    /**
+     * The component, that displays the plain text message. It is created with the layout and kept, so a pooled dialog
+     * can reuse it.
+     */
+    protected H5 messageLabel;
+
+    /**
+     * The pool, that this dialog returns to after closing, or <code>null</code> if it is not pooled.
+     */
+    protected ConfirmDialogPool pool;
+
+    /**
+     * Keeps the registrations of the listeners, that were added to a pooled dialog. They are removed, when the
+     * dialog returns into the pool.
+     */
+    private List<Registration> listenerRegistrations;
+
+    /**
+     * The button type, that is clicked by pressing Enter, or <code>null</code>
+     */
+    protected ButtonType enterButtonType;
+
+    /**
+     * The button type, that is clicked by pressing Escape, or <code>null</code>
+     */
+    protected ButtonType escapeButtonType;
+
+    /**
+     * The {@link RenderingMode} of this dialog
+     */
+    protected RenderingMode renderingMode;
+
+    /**
+     * The content of the dialog in the {@link RenderingMode#FLAT} rendering mode. It is created, when the dialog is
+     * opened.
+     */
+    protected ConfirmDialogPanel panel;
+
+    /**
+     * If true, the browser closes the dialog and reports the clicked button in a single request
+     */
+    protected boolean clientResolved;
+
+    /**
+     * The registration of the single listener, that receives the decisions of the dialog
+     */
+    private Registration decisionRegistration;
+
+    /**
+     * The executor of the button handlers or <code>null</code>, if they run on the request thread
+     */
+    protected transient Executor handlerExecutor;
+
+    /**
+     * Is set, if this dialog has a handler executor, that is resolved again after deserialization.
      */
-    protected HashMap<ButtonType, Button> buttons;
+    private boolean hasHandlerExecutor;
+
+    /**
+     * The maximum duration of a button handler, that runs on the executor, or <code>null</code>
+     */
+    protected Duration handlerTimeout;
+
+    /**
+     * The token, that the next decision must carry. It is renewed with each accepted decision and each opening, so
+     * a repeated or replayed decision is rejected.
+     */
+    private int decisionToken;
+
+    /**
+     * Is set, when a decision, that closes the dialog, is accepted. Further decisions are rejected, until the dialog
+     * is opened again.
+     */
+    private boolean decided;
+
+    /**
+     * The running button handler or <code>null</code>
+     */
+    private transient HandlerExecution handlerExecution;
+
+    /**
+     * The pending answer of {@link #ask(UI)} or <code>null</code>
+     */
+    private transient CompletableFuture<ButtonType> answer;
+
+    /**
+     * The type of the button, whose decision is closing the dialog, or <code>null</code>
+     */
+    private ButtonType closingButtonType;
 
     // static methods =========================================================
+    //
+    // The static setters replace the global ConfirmDialogConfig atomically. Dialogs, that exist already, keep the
+    // configuration, that they were created with.
 
     /**
-     * You can implement transitions inside the {@link TransitionListener}.
+     * You can implement transitions inside the {@link TransitionListener}. The listener is adapted as the first
+     * interceptor of the chain, see {@link #addDialogDefaultInterceptor(DialogInterceptor)}.
      *
      * @param listener The {@link TransitionListener}
      */
     public static void setDialogDefaultTransitionListener(TransitionListener listener) {
-        DIALOG_DEFAULT_TRANSITION_LISTENER = listener;
+        ConfirmDialogConfig.update(config -> config.withTransitionListener(listener));
     }
 
     /**
@@ -211,7 +418,7 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setDialogDefaultLanguage(Locale locale) {
         if (locale != null) {
-            DIALOG_DEFAULT_LOCALE = locale;
+            ConfirmDialogConfig.update(config -> config.withLocale(locale));
         }
     }
 
@@ -232,17 +439,28 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setDialogDefaultIconFactory(DialogIconFactory dialogIconFactory) {
         if (dialogIconFactory != null) {
-            DIALOG_DEFAULT_ICON_FACTORY = dialogIconFactory;
+            ConfirmDialogConfig.update(config -> config.withDialogIconFactory(dialogIconFactory));
         }
     }
 
+    /**
+     * Enables the minimal icon sprite for the dialog and button icons. Only the glyphs of the sprite are loaded by the
+     * browser, instead of the complete <code>vaadin-icons</code> iconset. Use {@link IconSprite#getDefault()} for the
+     * default icon factories or a generated sprite for custom factories, see {@link IconSpriteGenerator}.
+     *
+     * @param sprite The icon sprite or <code>null</code> to use the complete iconset
+     */
+    public static void setDialogIconSprite(IconSprite sprite) {
+        ConfirmDialogConfig.update(config -> config.withIconSprite(sprite));
+    }
+
     /**
      * Returns the default size of the dialog icon.
      *
      * @return The dialog icon size
      */
     public static String getDialogDefaultIconWidth() {
-        return DIALOG_DEFAULT_ICON_SIZE;
+        return ConfirmDialogConfig.getCurrent().getIconSize();
     }
 
     /**
@@ -254,7 +472,7 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setDialogDefaultIconWidth(String size) {
         if (size != null) {
-            DIALOG_DEFAULT_ICON_SIZE = size;
+            ConfirmDialogConfig.update(config -> config.withIconSize(size));
         }
     }
 
@@ -266,7 +484,7 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setButtonDefaultAlignment(FlexComponent.Alignment alignment) {
         if (alignment != null) {
-            BUTTON_DEFAULT_ALIGNMENT = alignment;
+            ConfirmDialogConfig.update(config -> config.withButtonAlignment(alignment));
         }
     }
 
@@ -277,7 +495,7 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setButtonDefaultIconFactory(ButtonIconFactory factory) {
         if (factory != null) {
-            BUTTON_DEFAULT_ICON_FACTORY = factory;
+            ConfirmDialogConfig.update(config -> config.withButtonIconFactory(factory));
         }
     }
 
@@ -288,7 +506,19 @@ public class ConfirmDialog extends Dialog {
      */
     public static void setButtonDefaultCaptionFactory(ButtonCaptionFactory factory) {
         if (factory != null) {
-            BUTTON_DEFAULT_CAPTION_FACTORY = factory;
+            ConfirmDialogConfig.update(config -> config.withButtonCaptionFactory(factory));
+        }
+    }
+
+    /**
+     * Configures the {@link DialogMessageFactory}, that translates the keys passed to
+     * {@link #withCaptionKey(String, Object...)} and {@link #withMessageKey(String, Object...)}.
+     *
+     * @param factory The new {@link DialogMessageFactory}
+     */
+    public static void setDialogDefaultMessageFactory(DialogMessageFactory factory) {
+        if (factory != null) {
+            ConfirmDialogConfig.update(config -> config.withMessageFactory(factory));
         }
     }
 
@@ -298,7 +528,55 @@ public class ConfirmDialog extends Dialog {
      * @param visible Sets the visibility of the button icons
      */
     public static void setButtonDefaultIconsVisible(boolean visible) {
-        BUTTON_DEFAULT_ICONS_VISIBLE = visible;
+        ConfirmDialogConfig.update(config -> config.withButtonIconsVisible(visible));
+    }
+
+    /**
+     * Configures the theme variant of the buttons of the given type, e.g. <code>primary</code> or
+     * <code>secondary error</code>.
+     *
+     * @param buttonType The button type
+     * @param theme      The theme variant or <code>null</code> for the default appearance
+     */
+    public static void setButtonDefaultTheme(ButtonType buttonType, String theme) {
+        if (buttonType != null) {
+            setButtonDefaultTheme(ButtonId.of(buttonType), theme);
+        }
+    }
+
+    /**
+     * Configures the theme variant of the buttons with the given identifier, e.g. <code>primary</code> or
+     * <code>secondary error</code>.
+     *
+     * @param id    The button identifier
+     * @param theme The theme variant or <code>null</code> for the default appearance
+     */
+    public static void setButtonDefaultTheme(ButtonId id, String theme) {
+        if (id != null) {
+            ConfirmDialogConfig.update(config -> config.withButtonTheme(id, theme));
+        }
+    }
+
+    /**
+     * Returns the {@link ButtonSpec} of the given button type, that is computed from the current
+     * {@link ConfirmDialogConfig}.
+     *
+     * @param buttonType The button type
+     * @return The button specification
+     */
+    public static ButtonSpec getButtonSpec(ButtonType buttonType) {
+        return getButtonSpec(ButtonId.of(buttonType));
+    }
+
+    /**
+     * Returns the {@link ButtonSpec} of the given button identifier, that is computed from the current
+     * {@link ConfirmDialogConfig}.
+     *
+     * @param id The button identifier
+     * @return The button specification
+     */
+    public static ButtonSpec getButtonSpec(ButtonId id) {
+        return ConfirmDialogConfig.getCurrent().getButtonSpec(id);
     }
 
     /**
@@ -310,7 +588,112 @@ public class ConfirmDialog extends Dialog {
      * @param addClose Sets the behavior, if an close button should be added or not
      */
     public static void setButtonAddClosePerDefault(boolean addClose) {
-        BUTTON_ADD_CLOSE_PER_DEFAULT = addClose;
+        ConfirmDialogConfig.update(config -> config.withAddClosePerDefault(addClose));
+    }
+
+    /**
+     * Enables the reuse of closed dialogs. Each UI keeps up to the given number of closed dialogs in a
+     * {@link ConfirmDialogPool}, that are reset and returned by {@link #create()}. A pooled dialog stays attached to
+     * the UI, so reopening it sends only the changes to the browser. Per default the pooling is disabled.
+     * <p>
+     * A pooled dialog is reset right before the response, in which it was closed. Do not keep references to it or to
+     * its buttons after closing it.
+     *
+     * @param size The maximum number of closed dialogs per UI or 0 to disable the pooling
+     */
+    public static void setDialogPoolSize(int size) {
+        if (size >= 0) {
+            ConfirmDialogConfig.update(config -> config.withPoolSize(size));
+        }
+    }
+
+    /**
+     * Configures the default {@link RenderingMode} of the dialogs. The default value is
+     * {@link RenderingMode#COMPONENTS}.
+     *
+     * @param renderingMode The new rendering mode
+     */
+    public static void setDialogDefaultRenderingMode(RenderingMode renderingMode) {
+        if (renderingMode != null) {
+            ConfirmDialogConfig.update(config -> config.withRenderingMode(renderingMode));
+        }
+    }
+
+    /**
+     * The client dependencies of the dialog, e.g. <code>vaadin-dialog</code>, <code>vaadin-button</code> and the
+     * iconset, are loaded with the response, that opens the first dialog in a UI. If the prefetching is enabled, each
+     * new UI loads them as soon as the browser is idle after the initial page load, see
+     * {@link ConfirmDialogPrefetcher}. Per default this property is set to false.
+     *
+     * @param prefetch Sets, if the client dependencies are prefetched
+     */
+    public static void setDialogDependencyPrefetch(boolean prefetch) {
+        ConfirmDialogConfig.update(config -> config.withDependencyPrefetch(prefetch));
+    }
+
+    /**
+     * Configures, if the decisions of new dialogs are resolved in the browser, see
+     * {@link #withClientResolvedDecision(boolean)}. Per default this property is set to false.
+     *
+     * @param clientResolved Sets, if the decisions are resolved in the browser
+     */
+    public static void setDialogDefaultClientResolved(boolean clientResolved) {
+        ConfirmDialogConfig.update(config -> config.withClientResolved(clientResolved));
+    }
+
+    /**
+     * Configures the default executor of the button handlers, see {@link #withHandlerExecutor(Executor)}. Per default
+     * the handlers run on the request thread. {@link HandlerExecutors#newDefaultExecutor()} creates an executor, that
+     * uses virtual threads, if they are available.
+     *
+     * @param executor The executor or <code>null</code> to run the handlers on the request thread
+     */
+    public static void setDialogDefaultHandlerExecutor(Executor executor) {
+        ConfirmDialogConfig.update(config -> config.withHandlerExecutor(executor));
+    }
+
+    /**
+     * Configures the default maximum duration of the button handlers, that run on an executor, see
+     * {@link #withHandlerTimeout(Duration)}.
+     *
+     * @param timeout The maximum duration or <code>null</code> for no limit
+     */
+    public static void setDialogDefaultHandlerTimeout(Duration timeout) {
+        ConfirmDialogConfig.update(config -> config.withHandlerTimeout(timeout));
+    }
+
+    /**
+     * Appends an interceptor to the default chain, that intercepts the opening, the decisions and the closing of the
+     * dialogs, see {@link DialogInterceptorChain}.
+     *
+     * @param interceptor The interceptor
+     */
+    public static void addDialogDefaultInterceptor(DialogInterceptor interceptor) {
+        if (interceptor != null) {
+            ConfirmDialogConfig.update(config -> config.withInterceptor(interceptor));
+        }
+    }
+
+    /**
+     * Removes an interceptor from the default chain.
+     *
+     * @param interceptor The interceptor
+     */
+    public static void removeDialogDefaultInterceptor(DialogInterceptor interceptor) {
+        ConfirmDialogConfig.update(config -> config.withoutInterceptor(interceptor));
+    }
+
+    /**
+     * Configures the default timeout of each interceptor in the given stage. An interceptor, that exceeds it, vetoes
+     * the stage.
+     *
+     * @param stage   The stage of the dialog
+     * @param timeout The timeout or <code>null</code> for no limit
+     */
+    public static void setDialogDefaultStageTimeout(DialogStage stage, Duration timeout) {
+        if (stage != null) {
+            ConfirmDialogConfig.update(config -> config.withStageTimeout(stage, timeout));
+        }
     }
 
     // constructors ===========================================================
@@ -324,37 +707,26 @@ public class ConfirmDialog extends Dialog {
         this.setCloseOnOutsideClick(false);
         this.setSizeUndefined();
 
-        // Create the top-level layout of the window
-        mainLayout = new VerticalLayout();
-        mainLayout.setSizeUndefined();
-        mainLayout.setMargin(false);
-        mainLayout.setPadding(false);
-        mainLayout.setSpacing(true);
-        this.add(mainLayout);
-
-        // Layout for the dialog body (icon & message)
-        contentLayout = new HorizontalLayout();
-        mainLayout.add(contentLayout);
-        mainLayout.setFlexGrow(1, contentLayout);
-        contentLayout.setSizeFull();
-        contentLayout.setMargin(false);
-        contentLayout.setPadding(false);
-        contentLayout.setSpacing(true);
-
-        // Layout for the buttons
-        buttonLayout = new HorizontalLayout();
-        buttonLayout.setSizeUndefined();
-        buttonLayout.setMargin(false);
-        buttonLayout.setPadding(false);
-        buttonLayout.setSpacing(true);
-        buttonLayout.setBoxSizing(BoxSizing.BORDER_BOX);
-        mainLayout.add(buttonLayout);
-        mainLayout.setHorizontalComponentAlignment(BUTTON_DEFAULT_ALIGNMENT, buttonLayout);
-
-        // Initialize internal states
+        // The layouts are created, when the dialog is opened
         buttonAdded = false;
         immutable = false;
-        buttons = new HashMap<>();
+        applyConfig(ConfirmDialogConfig.getCurrent());
+    }
+
+    /**
+     * The constructor to initialize a dialog, that returns into the given pool after closing.
+     *
+     * @param pool The pool of the UI
+     */
+    ConfirmDialog(ConfirmDialogPool pool) {
+        this();
+        this.pool = pool;
+        this.listenerRegistrations = new ArrayList<>();
+        super.addOpenedChangeListener(event -> {
+            if (!isOpened()) {
+                pool.release(this);
+            }
+        });
     }
 
     // methods for customizing the dialog =====================================
@@ -371,13 +743,34 @@ public class ConfirmDialog extends Dialog {
 //    }
 
     /**
-     * Sets an icon to the message dialog.
+     * Sets an icon to the message dialog. The icon is sized by the stylesheet of the dialog, see
+     * {@link #setDialogDefaultIconWidth(String)}.
      *
      * @param icon An embedded resource
      * @return The {@link ConfirmDialog} instance itself
      */
     public ConfirmDialog withIcon(Icon icon) {
-        return withIcon(icon, DIALOG_DEFAULT_ICON_SIZE, DIALOG_DEFAULT_ICON_SIZE);
+        return withIcon((Component) icon);
+    }
+
+    /**
+     * Sets an icon component, e.g. a {@link SpriteIcon}, to the message dialog. The icon is sized by the stylesheet of
+     * the dialog, see {@link #setDialogDefaultIconWidth(String)}.
+     *
+     * @param icon The icon component
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withIcon(Component icon) {
+        setIcon(icon);
+        if (icon != null) {
+            icon.getElement().getClassList().add(ICON_STYLE_NAME);
+            styleProperties.remove(ICON_WIDTH_PROPERTY);
+            styleProperties.remove(ICON_HEIGHT_PROPERTY);
+            if (!ICON_STYLE_SIZE.equals(config.getIconSize())) {
+                styleProperties.put(ICON_SIZE_PROPERTY, config.getIconSize());
+            }
+        }
+        return this;
     }
 
     /**
@@ -389,22 +782,39 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance itself
      */
     public ConfirmDialog withIcon(Icon icon, String width, String height) {
-        if (this.icon != null) {
-            contentLayout.remove(this.icon);
-        }
-
-        this.icon = icon;
-
+        setIcon(icon);
         if (icon != null) {
-            contentLayout.getElement().insertChild(0, icon.getElement());
-            contentLayout.setAlignSelf(FlexComponent.Alignment.CENTER, icon);
-
-            icon.getStyle().set(ElementConstants.STYLE_WIDTH, width);
-            icon.getStyle().set(ElementConstants.STYLE_HEIGHT, height);
+            icon.addClassName(ICON_STYLE_NAME);
+            styleProperties.put(ICON_WIDTH_PROPERTY, width);
+            styleProperties.put(ICON_HEIGHT_PROPERTY, height);
         }
         return this;
     }
 
+    /**
+     * Sets the icon of the given severity from the {@link DialogIconFactory} to the message dialog.
+     *
+     * @param severity The severity of the dialog
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withSeverity(DialogSeverity severity) {
+        if (severity == null) {
+            return withIcon((Component) null);
+        }
+        IconSprite iconSprite = config.getIconSprite();
+        if (iconSprite != null) {
+            DialogIconDescriptor descriptor = config.getDialogIconFactory().getIconDescriptor(severity);
+            if (descriptor != null) {
+                return withIcon(iconSprite.createIcon(descriptor));
+            }
+        }
+        return withIcon(config.getDialogIconFactory().getIcon(severity));
+    }
+
+    private void setIcon(Component icon) {
+        this.icon = icon;
+    }
+
     /**
      * Sets the caption of the message dialog.
      *
@@ -412,10 +822,34 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance itself
      */
     public ConfirmDialog withCaption(String caption) {
-        this.mainLayout.getElement().insertChild(0, new H4(caption).getElement());
+        this.caption = caption;
         return this;
     }
 
+    /**
+     * Sets the caption of the message dialog. The caption is translated by the {@link DialogMessageFactory} in the
+     * language of the dialog.
+     *
+     * @param key  The key of the caption
+     * @param args The arguments of the caption pattern
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withCaptionKey(String key, Object... args) {
+        return withCaption(config.getMessageFactory().translate(key, getCaptionLanguage(), args));
+    }
+
+    /**
+     * Sets the caption of the message dialog. The placeholders of the template are replaced with the properties of
+     * the given bean, see {@link BeanMessageTemplate}.
+     *
+     * @param template The caption template, e.g. <code>Delete order {number}</code>
+     * @param bean     The bean, that provides the values of the placeholders
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withCaptionTemplate(String template, Object bean) {
+        return withCaption(BeanMessageTemplate.render(template, bean));
+    }
+
     /**
      * Sets a component as content to the message dialog.
      *
@@ -423,17 +857,8 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance itself
      */
     public ConfirmDialog withMessage(Component messageComponent) {
-        if (this.messageComponent != null) {
-            contentLayout.remove(this.messageComponent);
-        }
-
         this.messageComponent = messageComponent;
-
-        if (messageComponent != null) {
-            contentLayout.getElement().insertChild(contentLayout.getComponentCount(), messageComponent.getElement());
-            contentLayout.setFlexGrow(1, messageComponent);
-            contentLayout.setAlignSelf(FlexComponent.Alignment.CENTER, messageComponent);
-        }
+        this.message = null;
         return this;
     }
 
@@ -444,7 +869,33 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance itself
      */
     public ConfirmDialog withMessage(String plainTextMessage) {
-        return withMessage(new H5(plainTextMessage));
+        this.messageComponent = null;
+        this.message = plainTextMessage;
+        return this;
+    }
+
+    /**
+     * Sets plain text as content to the message dialog. The message is translated by the
+     * {@link DialogMessageFactory} in the language of the dialog.
+     *
+     * @param key  The key of the message
+     * @param args The arguments of the message pattern
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withMessageKey(String key, Object... args) {
+        return withMessage(config.getMessageFactory().translate(key, getCaptionLanguage(), args));
+    }
+
+    /**
+     * Sets plain text as content to the message dialog. The placeholders of the template are replaced with the
+     * properties of the given bean, see {@link BeanMessageTemplate}.
+     *
+     * @param template The message template, e.g. <code>Delete order {order.number} for {customer.name}?</code>
+     * @param bean     The bean, that provides the values of the placeholders
+     * @return The {@link ConfirmDialog} instance itself
+     */
+    public ConfirmDialog withMessageTemplate(String template, Object bean) {
+        return withMessage(BeanMessageTemplate.render(template, bean));
     }
 
 //    /**
@@ -479,6 +930,118 @@ public class ConfirmDialog extends Dialog {
 //        return this;
 //    }
 
+    /**
+     * Sets the {@link RenderingMode} of this dialog.
+     *
+     * @param renderingMode The rendering mode
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withRenderingMode(RenderingMode renderingMode) {
+        if (immutable) {
+            throw new IllegalStateException("The rendering mode cannot be modified after the dialog has been opened.");
+        }
+        if (renderingMode != null) {
+            this.renderingMode = renderingMode;
+        }
+        return this;
+    }
+
+    /**
+     * Switches, if the decision of this dialog is resolved in the browser. A client-resolved dialog is closed by the
+     * browser as soon as a closing button is clicked, without waiting for the server. The index of the clicked button
+     * reaches the server in the same request, where the dialog executes the decision as usual, see
+     * {@link #addDecisionListener(ComponentEventListener)}.
+     * <p>
+     * Neither a {@link TransitionListener} nor a {@link DialogInterceptor} can prevent the closing of a client-resolved
+     * dialog. A button, whose Runnable runs on the handler executor, is not resolved in the browser, see
+     * {@link #withHandlerExecutor(Executor)}: the dialog stays open, until the handler has finished.
+     *
+     * @param clientResolved If true, the decision is resolved in the browser
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withClientResolvedDecision(boolean clientResolved) {
+        if (immutable) {
+            throw new IllegalStateException("The decision mode cannot be modified after the dialog has been opened.");
+        }
+        this.clientResolved = clientResolved;
+        return this;
+    }
+
+    /**
+     * Returns, if the decision of this dialog is resolved in the browser, see
+     * {@link #withClientResolvedDecision(boolean)}.
+     *
+     * @return True, if the decision is resolved in the browser
+     */
+    public boolean isClientResolved() {
+        return clientResolved;
+    }
+
+    /**
+     * Runs the Runnables of the buttons on the given executor instead of the request thread, so a slow handler does
+     * not lock the session. While a handler is running, the dialog stays open and shows a busy state: all buttons are
+     * disabled and the clicked button gets the attribute <code>confirm-dialog-busy</code>. When the handler finishes,
+     * the dialog is updated through {@link UI#access(Command)}: it is closed, if the button closes it, or the buttons
+     * are enabled again. The handler must use {@link UI#access(Command)} itself to update other components.
+     * <p>
+     * A failed handler, a handler exceeding its timeout and a rejected handler are reported to the
+     * {@link com.vaadin.flow.server.ErrorHandler} of the session and leave the dialog open.
+     *
+     * @param executor The executor or <code>null</code> to run the handlers on the request thread
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withHandlerExecutor(Executor executor) {
+        this.handlerExecutor = executor;
+        this.hasHandlerExecutor = executor != null;
+        return this;
+    }
+
+    /**
+     * Limits the duration of the button handlers, that run on an executor, see {@link #withHandlerExecutor(Executor)}.
+     * A handler exceeding the timeout is cancelled and its thread is interrupted.
+     *
+     * @param timeout The maximum duration or <code>null</code> for no limit
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withHandlerTimeout(Duration timeout) {
+        this.handlerTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * Returns, if a button handler is running on the executor, see {@link #withHandlerExecutor(Executor)}.
+     *
+     * @return True, if a handler is running
+     */
+    public boolean isBusy() {
+        return handlerExecution != null;
+    }
+
+    /**
+     * Cancels the running button handler and interrupts its thread. The buttons are enabled again and the dialog stays
+     * open.
+     */
+    public void cancelHandler() {
+        if (handlerExecution != null) {
+            handlerExecution.cancel();
+        }
+    }
+
+    /**
+     * Binds the Enter and Escape keys to buttons. The keys are handled in the browser: pressing a key clicks the
+     * corresponding button, so the decision reaches the server in the same single request as a click with the mouse.
+     * Enter is ignored, while a button or a text area has the focus.
+     *
+     * @param enterButtonType  The button type, that is clicked by pressing Enter, or <code>null</code>
+     * @param escapeButtonType The button type, that is clicked by pressing Escape, or <code>null</code>
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withKeyboardShortcuts(ButtonType enterButtonType, ButtonType escapeButtonType) {
+        this.enterButtonType = enterButtonType;
+        this.escapeButtonType = escapeButtonType;
+        return this;
+    }
+
     /**
      * Customizes the button alignment.
      *
@@ -487,11 +1050,23 @@ public class ConfirmDialog extends Dialog {
      */
     public ConfirmDialog withButtonAlignment(FlexComponent.Alignment alignment) {
         if (alignment != null) {
-            mainLayout.setHorizontalComponentAlignment(alignment, buttonLayout);
+            setButtonAlignment(alignment);
         }
         return this;
     }
 
+    /**
+     * Sets the button alignment as CSS custom property of the dialog content. The default alignment is defined in the
+     * stylesheet of the dialog.
+     */
+    private void setButtonAlignment(FlexComponent.Alignment alignment) {
+        if (alignment == FlexComponent.Alignment.END) {
+            styleProperties.remove(BUTTON_ALIGNMENT_PROPERTY);
+        } else {
+            styleProperties.put(BUTTON_ALIGNMENT_PROPERTY, getFlexValue(alignment));
+        }
+    }
+
     /**
      * Adds a blank space after the last added button.
      *
@@ -527,7 +1102,7 @@ public class ConfirmDialog extends Dialog {
             throw new IllegalStateException("The dialog cannot be enhanced with a button after it has been opened.");
         }
         if (button != null) {
-            buttonLayout.add(button);
+            buttonList.add(button);
 
             buttonAdded = true;
 
@@ -546,59 +1121,56 @@ public class ConfirmDialog extends Dialog {
     }
 
     /**
-     * Adds a button.
+     * Adds a button.
+     *
+     * @param buttonType A {@link ButtonType}
+     * @param runOnClick The Runnable, that is executed on clicking the button
+     * @param options    Some optional {@link ButtonOption}s
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withButton(ButtonType buttonType, Runnable runOnClick, ButtonOption... options) {
+        return withButton(buttonType == null ? null : ButtonId.of(buttonType), runOnClick, options);
+    }
+
+    /**
+     * Adds a button. The appearance is taken from the {@link ButtonSpec} of the button identifier.
      *
-     * @param buttonType A {@link ButtonType}
+     * @param id         The button identifier or <code>null</code> for an anonymous custom button
      * @param runOnClick The Runnable, that is executed on clicking the button
      * @param options    Some optional {@link ButtonOption}s
      * @return The {@link ConfirmDialog} instance
      */
-    public ConfirmDialog withButton(ButtonType buttonType, Runnable runOnClick, ButtonOption... options) {
-        Button button = new Button(BUTTON_DEFAULT_CAPTION_FACTORY.translate(buttonType, DIALOG_DEFAULT_LOCALE));
-        buttons.put(buttonType, button);
+    protected ConfirmDialog withButton(ButtonId id, Runnable runOnClick, ButtonOption... options) {
+        return withButton(createButton(id, runOnClick), options);
+    }
 
-        if (runOnClick != null) {
-            button.addClickListener(buttonClickEvent -> {
-                runOnClick.run();
-            });
-        }
+    /**
+     * Creates a button, that is styled by the {@link ButtonSpec} of the button identifier, and binds it to the
+     * identifier. The button is not added to the dialog.
+     *
+     * @param id         The button identifier or <code>null</code> for an anonymous custom button
+     * @param runOnClick The Runnable, that is executed on clicking the button
+     * @return The button
+     */
+    protected Button createButton(ButtonId id, Runnable runOnClick) {
+        Button button = new Button();
 
-        if (buttonType != null) {
+        if (id != null) {
+            buttons = buttons == null ? new Button[ButtonId.getCount()] : ButtonId.ensureCapacity(buttons, id.getIndex());
+            buttons[id.getIndex()] = button;
+            ComponentUtil.setData(button, ButtonId.class, id);
 
-            switch (buttonType) {
-                case OK:
-                    button.getElement().setAttribute("theme", "primary");
-                    break;
-                case YES:
-                    button.getElement().setAttribute("theme", "primary");
-                    break;
-                case NO:
-                    button.getElement().setAttribute("theme", "primary error");
-                    break;
-                case SAVE:
-                    button.getElement().setAttribute("theme", "primary");
-                    break;
-                case CLOSE:
-                    button.getElement().setAttribute("theme", "secondary error");
-                    break;
-                case CANCEL:
-                    button.getElement().setAttribute("theme", "secondary error");
-                    break;
-                case HELP:
-                case ABORT:
-                case RETRY:
-                case IGNORE:
-                    button.getElement().setAttribute("theme", "secondary");
-                    break;
-                default:
-                    break;
+            String caption;
+            if (id.isCustom()) {
+                caption = config.getMessageFactory().translate(id.getName(), getCaptionLanguage());
+            } else {
+                caption = config.getButtonCaptionFactory().translateFor(id.getButtonType(), getCaptionLanguage());
             }
+            config.getButtonSpec(id).apply(button, caption);
         }
-        if (BUTTON_DEFAULT_ICONS_VISIBLE) {
-            final VaadinIcon icon = BUTTON_DEFAULT_ICON_FACTORY.getIcon(buttonType);
-            button.setIcon(icon == null ? null : icon.create());
-        }
-        return withButton(button, options);
+        // each button keeps its Runnable itself, so buttons with the same identifier run their own Runnable
+        ComponentUtil.setData(button, Runnable.class, runOnClick);
+        return button;
     }
 
     /**
@@ -846,7 +1418,24 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public ConfirmDialog withCustomButton(Runnable runOnClick, ButtonOption... options) {
-        return withButton(null, runOnClick, options);
+        return withButton((ButtonId) null, runOnClick, options);
+    }
+
+    /**
+     * Adds a custom button, that can be retrieved with {@link #getButton(ButtonId)}. The caption is translated by the
+     * {@link DialogMessageFactory} with the name of the identifier as key. The theme variant can be configured with
+     * {@link #setButtonDefaultTheme(ButtonId, String)}.
+     *
+     * @param id         The button identifier, see {@link ButtonId#register(String)}
+     * @param runOnClick The Runnable, that is executed on clicking the button
+     * @param options    Some optional {@link ButtonOption}s
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog withCustomButton(ButtonId id, Runnable runOnClick, ButtonOption... options) {
+        if (id == null) {
+            throw new IllegalArgumentException("The button identifier must not be null.");
+        }
+        return withButton(id, runOnClick, options);
     }
 
     /**
@@ -860,6 +1449,11 @@ public class ConfirmDialog extends Dialog {
             throw new IllegalStateException("The width for all buttons cannot be modified after the dialog has been opened.");
         }
         buttonWidth = width;
+        if (width == null) {
+            styleProperties.remove(BUTTON_WIDTH_PROPERTY);
+        } else {
+            styleProperties.put(BUTTON_WIDTH_PROPERTY, width);
+        }
         return this;
     }
 
@@ -908,7 +1502,17 @@ public class ConfirmDialog extends Dialog {
      * @return Returns the corresponding button to the buttonType. If no binding is defined, it returns null.
      */
     public Button getButton(ButtonType buttonType) {
-        return buttons.get(buttonType);
+        return buttonType == null ? null : getButton(ButtonId.of(buttonType));
+    }
+
+    /**
+     * Returns the corresponding button to the button identifier.
+     *
+     * @param id The button identifier
+     * @return Returns the corresponding button to the identifier. If no binding is defined, it returns null.
+     */
+    public Button getButton(ButtonId id) {
+        return id == null || buttons == null || id.getIndex() >= buttons.length ? null : buttons[id.getIndex()];
     }
 
 //    /**
@@ -961,6 +1565,128 @@ public class ConfirmDialog extends Dialog {
 //        return builder.toString();
 //    }
 
+    /**
+     * Applies the given configuration to this dialog and resets the defaults, that are taken from it.
+     *
+     * @param config The configuration
+     */
+    protected void applyConfig(ConfirmDialogConfig config) {
+        this.config = config;
+        setButtonAlignment(config.getButtonAlignment());
+        renderingMode = config.getRenderingMode();
+        clientResolved = config.isClientResolved();
+        handlerExecutor = config.getHandlerExecutor();
+        hasHandlerExecutor = handlerExecutor != null;
+        handlerTimeout = config.getHandlerTimeout();
+    }
+
+    /**
+     * Returns the configuration, that this dialog was created with.
+     *
+     * @return The configuration
+     */
+    public ConfirmDialogConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Returns the language of the button captions and translated messages. The language is resolved only once for
+     * this dialog instance.
+     *
+     * @return The language of the dialog
+     */
+    protected Locale getCaptionLanguage() {
+        if (captionLanguage == null) {
+            captionLanguage = config.getButtonCaptionFactory().resolveLanguage(config.getLocale());
+        }
+        return captionLanguage;
+    }
+
+    /**
+     * Resets this dialog to the state of a new dialog, before it returns into the {@link ConfirmDialogPool}. The
+     * layouts are kept for reuse and updated, when the dialog is opened again. The buttons are removed and the
+     * listeners, that were added to the dialog, are dropped.
+     */
+    protected void reset() {
+        if (panel != null) {
+            remove(panel);
+            panel = null;
+        }
+        if (messageComponent != null) {
+            messageComponent.getElement().removeFromParent();
+        }
+        if (buttonLayout != null) {
+            buttonLayout.removeAll();
+        }
+
+        caption = null;
+        message = null;
+        messageComponent = null;
+        icon = null;
+        buttonList.clear();
+        if (buttons != null) {
+            Arrays.fill(buttons, null);
+        }
+        buttonAdded = false;
+        buttonWidth = null;
+        styleProperties.clear();
+
+        if (listenerRegistrations != null) {
+            listenerRegistrations.forEach(Registration::remove);
+            listenerRegistrations.clear();
+        }
+
+        data = null;
+        captionLanguage = null;
+        enterButtonType = null;
+        escapeButtonType = null;
+        applyConfig(ConfirmDialogConfig.getCurrent());
+        handlerExecution = null;
+        answer = null;
+        closingButtonType = null;
+        // the decision token keeps counting, so a decision of the previous use is rejected
+        decided = false;
+        immutable = false;
+    }
+
+    /**
+     * Adds a listener, that is notified of each decision of the user, i.e. of each click on a button of this dialog,
+     * see {@link DialogDecisionEvent}. All buttons of the dialog report their clicks through a single listener on the
+     * dialog, so this is the place to intercept every decision. The listener is removed, when a pooled dialog returns
+     * into the pool.
+     *
+     * @param listener The listener
+     * @return The registration of the listener
+     */
+    public Registration addDecisionListener(ComponentEventListener<DialogDecisionEvent> listener) {
+        return trackListener(addListener(DialogDecisionEvent.class, listener));
+    }
+
+    /**
+     * See {@link Dialog#addOpenedChangeListener(ComponentEventListener)}. The listener is removed, when a pooled
+     * dialog returns into the pool.
+     */
+    @Override
+    public Registration addOpenedChangeListener(ComponentEventListener<OpenedChangeEvent<Dialog>> listener) {
+        return trackListener(super.addOpenedChangeListener(listener));
+    }
+
+    /**
+     * See {@link Dialog#addDialogCloseActionListener(ComponentEventListener)}. The listener is removed, when a pooled
+     * dialog returns into the pool.
+     */
+    @Override
+    public Registration addDialogCloseActionListener(ComponentEventListener<DialogCloseActionEvent> listener) {
+        return trackListener(super.addDialogCloseActionListener(listener));
+    }
+
+    private Registration trackListener(Registration registration) {
+        if (listenerRegistrations != null) {
+            listenerRegistrations.add(registration);
+        }
+        return registration;
+    }
+
     protected ButtonOption[] addOption(ButtonOption[] options, ButtonOption addOption) {
         ButtonOption[] finalOptions = Arrays.copyOf(options, options.length + 1);
         finalOptions[options.length] = addOption;
@@ -975,6 +1701,12 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public static ConfirmDialog create() {
+        if (ConfirmDialogConfig.getCurrent().getPoolSize() > 0) {
+            UI ui = UI.getCurrent();
+            if (ui != null) {
+                return ConfirmDialogPool.get(ui).acquire();
+            }
+        }
         return new ConfirmDialog();
     }
 
@@ -984,7 +1716,7 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public static ConfirmDialog createInfo() {
-        return create().withIcon(DIALOG_DEFAULT_ICON_FACTORY.getInfoIcon());
+        return create().withSeverity(DialogSeverity.INFO);
     }
 
     /**
@@ -993,7 +1725,7 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public static ConfirmDialog createQuestion() {
-        return create().withIcon(DIALOG_DEFAULT_ICON_FACTORY.getQuestionIcon());
+        return create().withSeverity(DialogSeverity.QUESTION);
     }
 
     /**
@@ -1002,7 +1734,7 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public static ConfirmDialog createWarning() {
-        return create().withIcon(DIALOG_DEFAULT_ICON_FACTORY.getWarningIcon());
+        return create().withSeverity(DialogSeverity.WARNING);
     }
 
     /**
@@ -1011,7 +1743,7 @@ public class ConfirmDialog extends Dialog {
      * @return The {@link ConfirmDialog} instance
      */
     public static ConfirmDialog createError() {
-        return create().withIcon(DIALOG_DEFAULT_ICON_FACTORY.getErrorIcon());
+        return create().withSeverity(DialogSeverity.ERROR);
     }
 
     /**
@@ -1020,35 +1752,634 @@ public class ConfirmDialog extends Dialog {
     @Override
     public void open() {
         // Ensure, that the dialog has at least one button
-        if (!buttonAdded && BUTTON_ADD_CLOSE_PER_DEFAULT) {
+        if (!buttonAdded && config.isAddClosePerDefault()) {
             withCloseButton();
         }
 
-        // Apply some layouting options to the buttons
-        for (int i = 0; i < buttonLayout.getComponentCount(); i++) {
-            Component c = buttonLayout.getComponentAt(i);
-            if (buttonWidth != null && c instanceof Button) {
-                Button b = (Button) c;
-                b.setWidth(buttonWidth);
-            }
-            buttonLayout.setVerticalComponentAlignment(FlexComponent.Alignment.CENTER, c);
+        if (pool != null) {
+            pool.attach(this);
         }
+        bindKey(enterButtonType, "enter");
+        bindKey(escapeButtonType, "escape");
+        bindDecisions();
 
         // Add window to the UI
-        if (DIALOG_DEFAULT_TRANSITION_LISTENER == null || (DIALOG_DEFAULT_TRANSITION_LISTENER != null && DIALOG_DEFAULT_TRANSITION_LISTENER.show(this))) {
+        intercept(DialogStage.OPEN, null, () -> {
+            if (renderingMode == RenderingMode.FLAT) {
+                if (panel == null) {
+                    renderFlat();
+                }
+            } else {
+                buildLayout();
+            }
             super.open();
+        }, () -> {
+            if (answer != null) {
+                answer.complete(null);
+            }
+            if (pool != null) {
+                pool.release(this);
+            }
+        });
+
+        immutable = true;
+    }
+
+    /**
+     * Runs the {@link DialogInterceptorChain} of the configuration for the given stage. The stage goes on right away,
+     * if all interceptors answer synchronously, or by {@link UI#access(Command)}, when the last of them completed.
+     * A dialog without a UI never waits, an interceptor, that answers asynchronously, vetoes the stage.
+     *
+     * @param stage     The stage of the dialog
+     * @param buttonId  The identifier of the clicked button or <code>null</code>
+     * @param onAllowed Goes on with the stage, if all interceptors allowed it
+     * @param onVetoed  Cleans up, if an interceptor vetoed the stage
+     */
+    private void intercept(DialogStage stage, ButtonId buttonId, Command onAllowed, Command onVetoed) {
+        DialogInterceptorChain chain = config.getInterceptorChain();
+        if (chain.isEmpty()) {
+            onAllowed.execute();
+            return;
+        }
+
+        UI ui = getUI().orElseGet(UI::getCurrent);
+        if (ui == null) {
+            // without a UI, there is no session to go on in later, so only synchronous answers are waited for
+            CompletableFuture<Boolean> allowed = chain.intercept(stage, this, buttonId, Runnable::run);
+            if (!allowed.isDone()) {
+                LOGGER.warn("The {} stage of a dialog without a UI is vetoed, because an interceptor answers asynchronously.", stage);
+            }
+            (allowed.getNow(false) ? onAllowed : onVetoed).execute();
+            return;
+        }
+        Executor access = command -> {
+            try {
+                ui.access(command::run);
+            } catch (UIDetachedException e) {
+                // the dialog is gone with its UI
+            }
+        };
+        CompletableFuture<Boolean> allowed = chain.intercept(stage, this, buttonId, access);
+        if (allowed.isDone()) {
+            (allowed.join() ? onAllowed : onVetoed).execute();
+        } else {
+            allowed.thenAcceptAsync(result -> (result ? onAllowed : onVetoed).execute(), access);
+        }
+    }
+
+    /**
+     * Shows the dialog in the current UI and returns the decision of the user, see {@link #ask(UI)}.
+     *
+     * @return The stage, that completes with the type of the clicked button
+     */
+    public CompletionStage<ButtonType> ask() {
+        UI ui = UI.getCurrent();
+        if (ui == null) {
+            throw new IllegalStateException("The dialog can only be asked without a UI, while a UI is current.");
+        }
+        return ask(ui);
+    }
+
+    /**
+     * Shows the dialog in the given UI and returns the decision of the user. The stage completes, when the dialog is
+     * closed, with the type of the button, that closed it, i.e. after the handler of the button has finished. It
+     * completes with <code>null</code>, if a custom button closed the dialog, if it was closed otherwise or if its
+     * opening was vetoed, see {@link DialogInterceptor}. If the UI is detached before, the stage completes
+     * exceptionally with a {@link UIDetachedException}. A dialog can only be asked once at a time, otherwise the
+     * stage completes exceptionally with an {@link IllegalStateException}.
+     * <p>
+     * This method can be called from any thread. The dialog is opened by {@link UI#access(Command)}, unless the
+     * session is locked by the current thread already. The stage completes while the session is locked, so
+     * long-running follow-up work should use the async variants of {@link CompletionStage}:
+     * <pre>
+     * ConfirmDialog.createQuestion().withMessage("Delete?").withYesButton().withNoButton().ask(ui)
+     *         .thenAcceptAsync(buttonType -&gt; { if (buttonType == ButtonType.YES) service.delete(); }, executor);
+     * </pre>
+     *
+     * @param ui The UI
+     * @return The stage, that completes with the type of the clicked button
+     */
+    public CompletionStage<ButtonType> ask(UI ui) {
+        CompletableFuture<ButtonType> decision = new CompletableFuture<>();
+        Command show = () -> {
+            if (answer != null) {
+                decision.completeExceptionally(new IllegalStateException("The dialog is asked already."));
+                return;
+            }
+            answer = decision;
+            Registration detachRegistration = ui.addDetachListener(event -> decision.completeExceptionally(new UIDetachedException()));
+            Registration openedRegistration = addOpenedChangeListener(event -> {
+                if (!isOpened()) {
+                    decision.complete(closingButtonType);
+                }
+            });
+            // the stage is completed while the session is locked, so the listeners are removed right away
+            decision.whenComplete((buttonType, throwable) -> {
+                detachRegistration.remove();
+                openedRegistration.remove();
+                if (answer == decision) {
+                    answer = null;
+                }
+            });
+            open();
+        };
+
+        VaadinSession session = ui.getSession();
+        try {
+            if (session == null || session.hasLock()) {
+                show.execute();
+            } else {
+                ui.access(show);
+            }
+        } catch (UIDetachedException e) {
+            decision.completeExceptionally(e);
+        }
+        return decision;
+    }
+
+    private void bindKey(ButtonType buttonType, String key) {
+        Button button = getButton(buttonType);
+        if (button != null) {
+            button.getElement().setAttribute(BUTTON_KEY_ATTRIBUTE, key);
+        }
+    }
+
+    private void bindDecisions() {
+        for (int i = 0; i < buttonList.size(); i++) {
+            Element element = buttonList.get(i).getElement();
+            element.setAttribute(BUTTON_DECISION_ATTRIBUTE, String.valueOf(i));
+            if (clientResolved && closesOnClick(buttonList.get(i)) && !runsOnExecutor(buttonList.get(i))) {
+                element.setAttribute(BUTTON_CLOSE_ATTRIBUTE, true);
+            } else {
+                element.removeAttribute(BUTTON_CLOSE_ATTRIBUTE);
+            }
+        }
+        decided = false;
+        closingButtonType = null;
+        renewDecisionToken();
+        if (decisionRegistration == null) {
+            decisionRegistration = getElement().addEventListener(DECISION_EVENT, event ->
+                    decide((int) event.getEventData().getNumber(DECISION_EVENT_INDEX),
+                            (int) event.getEventData().getNumber(DECISION_EVENT_TOKEN)))
+                    .addEventData(DECISION_EVENT_INDEX)
+                    .addEventData(DECISION_EVENT_TOKEN);
+        }
+    }
+
+    /**
+     * Issues a new decision token. The browser enables the buttons again, when it receives the new token.
+     */
+    private void renewDecisionToken() {
+        decisionToken++;
+        getElement().setAttribute(DECISION_TOKEN_ATTRIBUTE, String.valueOf(decisionToken));
+    }
+
+    /**
+     * Executes the decision of the user, if the {@link DialogInterceptor}s allow it. A {@link DialogDecisionEvent} is
+     * fired, then the Runnable of the clicked button is executed and the dialog is closed, if the button closes it. The buttons of the
+     * {@link RenderingMode#FLAT} rendering mode are not attached, so their click listeners are notified here as well.
+     * A client-resolved dialog has been closed by the browser already, so closing it only updates the state on the
+     * server.
+     * <p>
+     * The browser disables the buttons, when one of them is clicked, and sends the decision only once per token. A
+     * decision with another token than the current one is rejected, e.g. a replayed request, and the token is
+     * renewed with each accepted decision. After a decision, that closes the dialog, all further decisions are
+     * rejected, until the dialog is opened again. While the interceptors decide or the handler runs on an executor,
+     * all further decisions are rejected and the token is kept, so the browser keeps the buttons disabled. The state
+     * is only accessed, while the session is locked.
+     *
+     * @param index The index of the clicked button
+     * @param token The decision token, that the browser has sent along
+     */
+    protected void decide(int index, int token) {
+        if (decided || token != decisionToken) {
+            return;
+        }
+        if (handlerExecution != null) {
+            // a new token would enable the buttons in the browser, while the handler is still running
+            return;
+        }
+        Button button = index >= 0 && index < buttonList.size() ? buttonList.get(index) : null;
+        if (button == null || !button.isEnabled()) {
+            renewDecisionToken();
+            return;
+        }
+        ButtonId id = getButtonId(button);
+        decided = true;
+        intercept(DialogStage.DECISION, id, () -> {
+            if (decisionToken == token) {
+                executeDecision(button, id);
+            }
+        }, () -> {
+            if (decisionToken == token) {
+                // the dialog stays open for another decision
+                renewDecisionToken();
+                decided = false;
+            }
+        });
+    }
+
+    private void executeDecision(Button button, ButtonId id) {
+        boolean executed = false;
+        try {
+            fireEvent(new DialogDecisionEvent(this, true, id, button));
+            if (panel != null) {
+                ComponentUtil.fireEvent(button, new ClickEvent<>(button));
+            }
+
+            Runnable runOnClick = ComponentUtil.getData(button, Runnable.class);
+            decided = closesOnClick(button);
+            UI ui = getUI().orElse(null);
+            if (runOnClick != null && handlerExecutor != null && ui != null && !isClosedByBrowser(button)) {
+                // the dialog is closed and the token renewed, when the handler has finished
+                handlerExecution = new HandlerExecution(this, button, ui);
+                setBusy(button, true);
+                handlerExecution.start(handlerExecutor, runOnClick, handlerTimeout);
+                executed = true;
+                return;
+            }
+
+            renewDecisionToken();
+            if (runOnClick != null) {
+                runOnClick.run();
+            }
+            if (closesOnClick(button)) {
+                closeByDecision(button);
+            }
+            executed = true;
+        } finally {
+            if (!executed) {
+                // a failing listener or Runnable leaves the dialog open for another decision
+                decided = false;
+                renewDecisionToken();
+            }
+        }
+    }
+
+    /**
+     * Returns, if the Runnable of the given button would run on the handler executor. Such a button is not closed by
+     * the browser, because the dialog stays open until the handler has finished.
+     */
+    private boolean runsOnExecutor(Button button) {
+        return handlerExecutor != null && ComponentUtil.getData(button, Runnable.class) != null;
+    }
+
+    /**
+     * Returns, if the browser closes the dialog by itself, when the given button is clicked.
+     */
+    private static boolean isClosedByBrowser(Button button) {
+        return button.getElement().hasAttribute(BUTTON_CLOSE_ATTRIBUTE);
+    }
+
+    /**
+     * Closes the dialog by the decision for the given button, that is reported by {@link #ask(UI)}.
+     */
+    private void closeByDecision(Button button) {
+        ButtonId id = getButtonId(button);
+        closingButtonType = id == null ? null : id.getButtonType();
+        if (isClosedByBrowser(button)) {
+            // the browser has closed the dialog already, so the interceptors are only notified
+            intercept(DialogStage.CLOSE, null, () -> {
+            }, () -> {
+            });
+            super.close();
+        } else {
+            close();
+        }
+    }
+
+    /**
+     * Completes the decision, when the handler of the button has finished on the executor. It is called while the
+     * session is locked.
+     *
+     * @param execution The finished execution
+     * @param failure   The failure of the handler or <code>null</code>, if it succeeded
+     */
+    void finishHandler(HandlerExecution execution, Throwable failure) {
+        if (handlerExecution != execution) {
+            // the dialog has been reset in the meantime
+            return;
+        }
+        handlerExecution = null;
+        setBusy(execution.getButton(), false);
+        renewDecisionToken();
+        if (failure != null) {
+            // the dialog stays open for another decision
+            decided = false;
+        }
+
+        if (failure == null) {
+            if (closesOnClick(execution.getButton())) {
+                closeByDecision(execution.getButton());
+            }
+        } else if (!(failure instanceof CancellationException)) {
+            VaadinSession session = getUI().map(UI::getSession).orElse(null);
+            if (session != null) {
+                session.getErrorHandler().error(new ErrorEvent(failure));
+            }
+        }
+    }
+
+    /**
+     * Shows or hides the busy state of the dialog. The buttons are only disabled in the browser, their enabled state
+     * on the server is kept.
+     */
+    private void setBusy(Button clicked, boolean busy) {
+        for (Button button : buttonList) {
+            if (busy) {
+                button.getElement().setAttribute("disabled", true);
+            } else if (button.isEnabled()) {
+                button.getElement().removeAttribute("disabled");
+            }
+        }
+        clicked.getElement().setAttribute(BUTTON_BUSY_ATTRIBUTE, busy);
+        if (panel != null) {
+            panel.setButtons(describeButtons(buttonList.toArray(new Button[0])));
+        }
+    }
+
+    /**
+     * Returns the identifier, that the given button was created with, or <code>null</code>, if it is anonymous. A
+     * button keeps its identifier, even if another button with the same identifier was added later.
+     */
+    private static ButtonId getButtonId(Button button) {
+        return ComponentUtil.getData(button, ButtonId.class);
+    }
+
+    /**
+     * Returns, if the given button closes the dialog on clicking, see {@link ButtonOption#closeOnClick(boolean)}.
+     */
+    private static boolean closesOnClick(Button button) {
+        return Boolean.TRUE.equals(ComponentUtil.getData(button, ButtonOption.CLOSE_ON_CLICK_KEY));
+    }
+
+    /**
+     * Creates the layouts of the dialog, if they do not exist yet, and updates them from the state of the dialog.
+     * The children of a layout are only replaced, if they changed, so a pooled dialog sends only the changes to the
+     * browser.
+     */
+    protected void buildLayout() {
+        if (mainLayout == null) {
+            // Create the top-level layout of the window
+            mainLayout = new VerticalLayout();
+            mainLayout.setSizeUndefined();
+            mainLayout.setMargin(false);
+            mainLayout.setPadding(false);
+            mainLayout.setSpacing(true);
+
+            // Layout for the dialog body (icon & message)
+            contentLayout = new HorizontalLayout();
+            contentLayout.setSizeFull();
+            contentLayout.setMargin(false);
+            contentLayout.setPadding(false);
+            contentLayout.setSpacing(true);
+
+            // Layout for the buttons
+            buttonLayout = new HorizontalLayout();
+            buttonLayout.setSizeUndefined();
+            buttonLayout.setMargin(false);
+            buttonLayout.setPadding(false);
+            buttonLayout.setSpacing(true);
+            buttonLayout.setBoxSizing(BoxSizing.BORDER_BOX);
+            buttonLayout.addClassName(BUTTON_LAYOUT_STYLE_NAME);
+        }
+        if (!getElement().equals(mainLayout.getElement().getParent())) {
+            add(mainLayout);
         }
 
+        // Caption
+        List<Component> mainChildren = new ArrayList<>();
+        if (caption != null) {
+            if (captionComponent == null) {
+                captionComponent = new H4();
+            }
+            captionComponent.setText(caption);
+            mainChildren.add(captionComponent);
+        }
+        mainChildren.add(contentLayout);
+        mainChildren.add(buttonLayout);
+        setChildren(mainLayout, mainChildren);
+        mainLayout.setFlexGrow(1, contentLayout);
+
+        // Icon & message
+        List<Component> contentChildren = new ArrayList<>();
+        if (icon != null) {
+            contentChildren.add(icon);
+        }
+        Component messageContent = messageComponent;
+        if (message != null) {
+            if (messageLabel == null) {
+                messageLabel = new H5();
+            }
+            messageLabel.setText(message);
+            messageContent = messageLabel;
+        }
+        if (messageContent != null) {
+            contentChildren.add(messageContent);
+            contentLayout.setFlexGrow(1, messageContent);
+            contentLayout.setAlignSelf(FlexComponent.Alignment.CENTER, messageContent);
+        }
+        setChildren(contentLayout, contentChildren);
+
+        // Buttons
+        setChildren(buttonLayout, buttonList);
+
+        // Styling
+        mainLayout.getStyle().getNames()
+                .filter(name -> name.startsWith(PROPERTY_PREFIX) && !styleProperties.containsKey(name))
+                .collect(Collectors.toList())
+                .forEach(mainLayout.getStyle()::remove);
+        styleProperties.forEach(mainLayout.getStyle()::set);
+        mainLayout.getElement().getClassList().set(BUTTON_WIDTH_STYLE_NAME, buttonWidth != null);
+    }
+
+    private static void setChildren(Component parent, List<? extends Component> children) {
+        Element element = parent.getElement();
+        boolean changed = element.getChildCount() != children.size();
+        for (int i = 0; !changed && i < children.size(); i++) {
+            changed = !element.getChild(i).equals(children.get(i).getElement());
+        }
+        if (changed) {
+            element.removeAllChildren();
+            for (Component child : children) {
+                element.appendChild(child.getElement());
+            }
+        }
+    }
+
+    /**
+     * Renders the dialog as a single {@link ConfirmDialogPanel} instead of the layouts. The buttons are not attached,
+     * they are described by their caption, theme, style, width and icon. A click in the browser fires a click event
+     * on the corresponding button on the server.
+     */
+    protected void renderFlat() {
+        panel = new ConfirmDialogPanel();
+
+        panel.setCaption(caption);
+        if (message != null) {
+            panel.setMessage(message);
+        } else {
+            panel.setMessageComponent(messageComponent);
+        }
+        if (icon != null) {
+            panel.setIcon(icon.getElement().getAttribute("icon"), icon.getElement().getAttribute("class"));
+            addIconDependencies(icon);
+        }
+        styleProperties.forEach(panel.getElement().getStyle()::set);
+
+        Button[] flatButtons = buttonList.toArray(new Button[0]);
+        // the clicks are reported by the decision listener of the dialog
+        panel.setButtons(describeButtons(flatButtons));
+
+        if (mainLayout != null) {
+            mainLayout.getElement().removeFromParent();
+        }
+        add(panel);
+    }
+
+    /**
+     * Shows the dialog without keeping any state on the server. Caption, message, icon and buttons are sent to the
+     * browser once, where a {@link ConfirmDialogPanel} renders them in a dialog, that only exists in the browser. Any
+     * button closes it and the server is not notified, so the Runnables and listeners of the buttons are not executed.
+     * A pooled dialog returns into the pool right away, any other dialog can be discarded after this call.
+     * <p>
+     * This is meant for notifications, e.g. <code>ConfirmDialog.createInfo().withMessage("Saved").openDetached()</code>,
+     * that may stay unread for a long time. Only plain text messages are supported.
+     */
+    public void openDetached() {
+        if (messageComponent != null) {
+            throw new IllegalStateException("A detached dialog supports only plain text messages.");
+        }
+        UI ui = UI.getCurrent();
+        if (ui == null) {
+            throw new IllegalStateException("A detached dialog can only be opened, while a UI is current.");
+        }
+        // Ensure, that the dialog has at least one button
+        if (!buttonAdded && config.isAddClosePerDefault()) {
+            withCloseButton();
+        }
+        bindKey(enterButtonType, "enter");
+        bindKey(escapeButtonType, "escape");
+
         immutable = true;
+        Command release = () -> {
+            if (pool != null) {
+                // the pool keeps its idle dialogs attached
+                pool.attach(this);
+                pool.release(this);
+            }
+        };
+        intercept(DialogStage.OPEN, null, () -> {
+            ui.getInternals().addComponentDependencies(getClass());
+            ui.getInternals().addComponentDependencies(ConfirmDialogPanel.class);
+
+            JsonObject properties = Json.createObject();
+            putIfNotNull(properties, "caption", caption);
+            putIfNotNull(properties, "message", message);
+            if (icon != null) {
+                putIfNotNull(properties, "icon", icon.getElement().getAttribute("icon"));
+                putIfNotNull(properties, "iconClass", icon.getElement().getAttribute("class"));
+                addIconDependencies(icon);
+            }
+            properties.put("buttons", describeButtons(buttonList.toArray(new Button[0])));
+
+            JsonObject style = Json.createObject();
+            styleProperties.forEach(style::put);
+
+            ui.getPage().executeJavaScript("ConfirmDialogNotice.show($0, $1)", properties, style);
+            release.execute();
+        }, release);
+    }
+
+    private static JsonArray describeButtons(Button[] buttons) {
+        JsonArray descriptors = Json.createArray();
+        for (int i = 0; i < buttons.length; i++) {
+            descriptors.set(i, describeButton(buttons[i]));
+            addIconDependencies(buttons[i].getIcon());
+        }
+        return descriptors;
+    }
+
+    /**
+     * Loads the iconset of the given icon, that is described by the panel instead of being attached.
+     */
+    private static void addIconDependencies(Component icon) {
+        UI ui = UI.getCurrent();
+        if (icon != null && ui != null) {
+            ui.getInternals().addComponentDependencies(icon.getClass());
+        }
+    }
+
+    private static JsonObject describeButton(Button button) {
+        JsonObject descriptor = Json.createObject();
+        putIfNotNull(descriptor, "text", button.getText());
+        putIfNotNull(descriptor, "theme", button.getElement().getAttribute("theme"));
+        putIfNotNull(descriptor, "className", button.getElement().getAttribute("class"));
+        putIfNotNull(descriptor, "width", button.getWidth());
+        putIfNotNull(descriptor, "key", button.getElement().getAttribute(BUTTON_KEY_ATTRIBUTE));
+        putIfNotNull(descriptor, "decision", button.getElement().getAttribute(BUTTON_DECISION_ATTRIBUTE));
+        if (button.getElement().hasAttribute(BUTTON_CLOSE_ATTRIBUTE)) {
+            descriptor.put("close", true);
+        }
+        if (button.getElement().hasAttribute("autofocus")) {
+            descriptor.put("autofocus", true);
+        }
+        if (button.getIcon() != null) {
+            putIfNotNull(descriptor, "icon", button.getIcon().getElement().getAttribute("icon"));
+        }
+        if (button.getElement().hasAttribute(BUTTON_BUSY_ATTRIBUTE)) {
+            descriptor.put("busy", true);
+        }
+        if (!button.isEnabled() || button.getElement().hasAttribute("disabled")) {
+            descriptor.put("disabled", true);
+        }
+        return descriptor;
+    }
+
+    private static void putIfNotNull(JsonObject object, String key, String value) {
+        if (value != null) {
+            object.put(key, value);
+        }
+    }
+
+    private static String getFlexValue(FlexComponent.Alignment alignment) {
+        switch (alignment) {
+            case START:
+                return "flex-start";
+            case CENTER:
+                return "center";
+            case STRETCH:
+                return "stretch";
+            case BASELINE:
+                return "baseline";
+            default:
+                return "flex-end";
+        }
     }
 
     /**
-     * Closes the window if open.
+     * Closes the window if open. The {@link DialogInterceptor}s are only asked, if the dialog is open.
      */
     @Override
     public void close() {
-        if (DIALOG_DEFAULT_TRANSITION_LISTENER == null || (DIALOG_DEFAULT_TRANSITION_LISTENER != null && DIALOG_DEFAULT_TRANSITION_LISTENER.close(this))) {
+        if (!isOpened()) {
+            // e.g. closed by the browser, there is nothing left to veto
             super.close();
+            return;
+        }
+        intercept(DialogStage.CLOSE, null, super::close, () -> {
+            // the dialog stays open for another decision, a later closing is not caused by this one
+            closingButtonType = null;
+            decided = false;
+        });
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (hasHandlerExecutor) {
+            // the executor is not serializable, the configuration has resolved its own one again
+            handlerExecutor = config.getHandlerExecutor() != null ? config.getHandlerExecutor()
+                    : ConfirmDialogConfig.resolveHandlerExecutor();
         }
     }
 
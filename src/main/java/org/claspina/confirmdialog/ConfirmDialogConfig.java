@@ -0,0 +1,751 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinSession;
+import org.claspina.confirmdialog.i18n.ButtonCaptionFactory;
+import org.claspina.confirmdialog.i18n.DialogMessageFactory;
+import org.claspina.confirmdialog.icons.ButtonIconFactory;
+import org.claspina.confirmdialog.icons.DialogIconFactory;
+import org.claspina.confirmdialog.icons.IconSprite;
+import org.claspina.confirmdialog.icons.VaadinButtonIconFactory;
+import org.claspina.confirmdialog.icons.VaadinDialogIconFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * An immutable snapshot of the default configuration of the {@link ConfirmDialog}. Each <code>withX</code> method
+ * returns a modified copy.
+ * <p>
+ * The global configuration is published through a single volatile reference and replaced atomically by
+ * {@link #update(UnaryOperator)}; the static setters of {@link ConfirmDialog} delegate to it. A configuration can be
+ * overridden for a {@link VaadinService}, a {@link VaadinSession} or a {@link UI}:
+ * <pre>
+ * ConfirmDialogConfig.setForSession(session, ConfirmDialogConfig.getGlobal().withLocale(Locale.GERMAN));
+ * </pre>
+ * A dialog resolves its configuration once, when it is created, from the most specific scope: the current UI, the
+ * current session, the current service and finally the global configuration. Afterwards it only reads its own
+ * snapshot.
+ * <p>
+ * The handler executor is not serializable. A deserialized configuration, e.g. of a restored session, takes the
+ * executor of the current service or the global configuration instead, so the executor should be configured there.
+ *
+ * @author Carlos Laspina
+ */
+public final class ConfirmDialogConfig implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfirmDialogConfig.class);
+
+    private static final AtomicReference<ConfirmDialogConfig> GLOBAL = new AtomicReference<>(new ConfirmDialogConfig());
+
+    private static final ConcurrentMap<VaadinService, ConfirmDialogConfig> SERVICE_CONFIGS = new ConcurrentHashMap<>();
+
+    private TransitionListener transitionListener;
+
+    private Locale locale = Locale.ENGLISH;
+
+    private DialogIconFactory dialogIconFactory = new VaadinDialogIconFactory();
+
+    private String iconSize = ConfirmDialog.ICON_STYLE_SIZE;
+
+    private FlexComponent.Alignment buttonAlignment = FlexComponent.Alignment.END;
+
+    private ButtonCaptionFactory buttonCaptionFactory = new ButtonCaptionFactory();
+
+    private DialogMessageFactory messageFactory = new DialogMessageFactory();
+
+    private ButtonIconFactory buttonIconFactory = new VaadinButtonIconFactory();
+
+    private boolean buttonIconsVisible = true;
+
+    private IconSprite iconSprite;
+
+    private Map<ButtonId, String> buttonThemes;
+
+    private boolean addClosePerDefault = true;
+
+    private int poolSize;
+
+    private RenderingMode renderingMode = RenderingMode.COMPONENTS;
+
+    private boolean dependencyPrefetch;
+
+    private boolean clientResolved;
+
+    private transient Executor handlerExecutor;
+
+    /**
+     * Is set, if this configuration has a handler executor, that is resolved again after deserialization.
+     */
+    private boolean hasHandlerExecutor;
+
+    private Duration handlerTimeout;
+
+    private DialogInterceptorChain interceptorChain = DialogInterceptorChain.EMPTY;
+
+    /**
+     * Keeps the {@link ButtonSpec}s indexed by {@link ButtonId}, that are computed lazily from this configuration.
+     */
+    private transient volatile ButtonSpec[] buttonSpecs = new ButtonSpec[0];
+
+    private ConfirmDialogConfig() {
+        Map<ButtonId, String> themes = new HashMap<>();
+        themes.put(ButtonId.of(ButtonType.OK), "primary");
+        themes.put(ButtonId.of(ButtonType.YES), "primary");
+        themes.put(ButtonId.of(ButtonType.NO), "primary error");
+        themes.put(ButtonId.of(ButtonType.SAVE), "primary");
+        themes.put(ButtonId.of(ButtonType.CLOSE), "secondary error");
+        themes.put(ButtonId.of(ButtonType.CANCEL), "secondary error");
+        themes.put(ButtonId.of(ButtonType.HELP), "secondary");
+        themes.put(ButtonId.of(ButtonType.ABORT), "secondary");
+        themes.put(ButtonId.of(ButtonType.RETRY), "secondary");
+        themes.put(ButtonId.of(ButtonType.IGNORE), "secondary");
+        buttonThemes = Collections.unmodifiableMap(themes);
+    }
+
+    private ConfirmDialogConfig(ConfirmDialogConfig other) {
+        transitionListener = other.transitionListener;
+        locale = other.locale;
+        dialogIconFactory = other.dialogIconFactory;
+        iconSize = other.iconSize;
+        buttonAlignment = other.buttonAlignment;
+        buttonCaptionFactory = other.buttonCaptionFactory;
+        messageFactory = other.messageFactory;
+        buttonIconFactory = other.buttonIconFactory;
+        buttonIconsVisible = other.buttonIconsVisible;
+        iconSprite = other.iconSprite;
+        buttonThemes = other.buttonThemes;
+        addClosePerDefault = other.addClosePerDefault;
+        poolSize = other.poolSize;
+        renderingMode = other.renderingMode;
+        dependencyPrefetch = other.dependencyPrefetch;
+        clientResolved = other.clientResolved;
+        handlerExecutor = other.handlerExecutor;
+        hasHandlerExecutor = other.hasHandlerExecutor;
+        handlerTimeout = other.handlerTimeout;
+        interceptorChain = other.interceptorChain;
+    }
+
+    // scopes =================================================================
+
+    /**
+     * Returns the global configuration.
+     *
+     * @return The global configuration
+     */
+    public static ConfirmDialogConfig getGlobal() {
+        return GLOBAL.get();
+    }
+
+    /**
+     * Replaces the global configuration.
+     *
+     * @param config The new global configuration
+     */
+    public static void setGlobal(ConfirmDialogConfig config) {
+        if (config != null) {
+            GLOBAL.set(config);
+        }
+    }
+
+    /**
+     * Replaces the global configuration atomically by a modified copy, e.g.
+     * <code>ConfirmDialogConfig.update(config -&gt; config.withPoolSize(4))</code>. Concurrent updates do not get lost,
+     * the function may be applied more than once.
+     *
+     * @param update The function, that returns the modified copy of the given configuration
+     * @return The new global configuration
+     */
+    public static ConfirmDialogConfig update(UnaryOperator<ConfirmDialogConfig> update) {
+        return GLOBAL.updateAndGet(update);
+    }
+
+    /**
+     * Overrides the global configuration for the given service. The override is dropped, when the service is
+     * destroyed.
+     *
+     * @param service The service
+     * @param config  The configuration or <code>null</code> to remove the override
+     */
+    public static void setForService(VaadinService service, ConfirmDialogConfig config) {
+        if (config == null) {
+            SERVICE_CONFIGS.remove(service);
+        } else if (SERVICE_CONFIGS.put(service, config) == null) {
+            service.addServiceDestroyListener(event -> SERVICE_CONFIGS.remove(service));
+        }
+    }
+
+    /**
+     * Overrides the configuration of the service for the given session. The session must be locked.
+     *
+     * @param session The session
+     * @param config  The configuration or <code>null</code> to remove the override
+     */
+    public static void setForSession(VaadinSession session, ConfirmDialogConfig config) {
+        session.setAttribute(ConfirmDialogConfig.class, config);
+    }
+
+    /**
+     * Overrides the configuration of the session for the given UI. The session must be locked.
+     *
+     * @param ui     The UI
+     * @param config The configuration or <code>null</code> to remove the override
+     */
+    public static void setForUI(UI ui, ConfirmDialogConfig config) {
+        ComponentUtil.setData(ui, ConfirmDialogConfig.class, config);
+    }
+
+    /**
+     * Returns the configuration of the given UI, i.e. the override of the UI, of its session, of its service or the
+     * global configuration.
+     *
+     * @param ui The UI
+     * @return The configuration
+     */
+    public static ConfirmDialogConfig get(UI ui) {
+        ConfirmDialogConfig config = ComponentUtil.getData(ui, ConfirmDialogConfig.class);
+        return config != null ? config : get(ui.getSession());
+    }
+
+    /**
+     * Returns the configuration of the current UI, session or service, see {@link #get(UI)}.
+     *
+     * @return The configuration
+     */
+    public static ConfirmDialogConfig getCurrent() {
+        UI ui = UI.getCurrent();
+        return ui != null ? get(ui) : get(VaadinSession.getCurrent());
+    }
+
+    private static ConfirmDialogConfig get(VaadinSession session) {
+        VaadinService service = VaadinService.getCurrent();
+        if (session != null) {
+            ConfirmDialogConfig config = session.getAttribute(ConfirmDialogConfig.class);
+            if (config != null) {
+                return config;
+            }
+            service = session.getService();
+        }
+        ConfirmDialogConfig config = service != null && !SERVICE_CONFIGS.isEmpty() ? SERVICE_CONFIGS.get(service) : null;
+        return config != null ? config : GLOBAL.get();
+    }
+
+    // getters ================================================================
+
+    /**
+     * Returns the {@link TransitionListener}.
+     *
+     * @return The transition listener or <code>null</code>
+     */
+    public TransitionListener getTransitionListener() {
+        return transitionListener;
+    }
+
+    /**
+     * Returns the default language of the dialogs.
+     *
+     * @return The language
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the {@link DialogIconFactory}.
+     *
+     * @return The dialog icon factory
+     */
+    public DialogIconFactory getDialogIconFactory() {
+        return dialogIconFactory;
+    }
+
+    /**
+     * Returns the default size of the dialog icon.
+     *
+     * @return The icon size
+     */
+    public String getIconSize() {
+        return iconSize;
+    }
+
+    /**
+     * Returns the default button alignment.
+     *
+     * @return The button alignment
+     */
+    public FlexComponent.Alignment getButtonAlignment() {
+        return buttonAlignment;
+    }
+
+    /**
+     * Returns the {@link ButtonCaptionFactory}.
+     *
+     * @return The button caption factory
+     */
+    public ButtonCaptionFactory getButtonCaptionFactory() {
+        return buttonCaptionFactory;
+    }
+
+    /**
+     * Returns the {@link DialogMessageFactory}.
+     *
+     * @return The message factory
+     */
+    public DialogMessageFactory getMessageFactory() {
+        return messageFactory;
+    }
+
+    /**
+     * Returns the {@link ButtonIconFactory}.
+     *
+     * @return The button icon factory
+     */
+    public ButtonIconFactory getButtonIconFactory() {
+        return buttonIconFactory;
+    }
+
+    /**
+     * Returns, if the button icons are visible.
+     *
+     * @return True, if the button icons are visible
+     */
+    public boolean isButtonIconsVisible() {
+        return buttonIconsVisible;
+    }
+
+    /**
+     * Returns the {@link IconSprite}.
+     *
+     * @return The icon sprite or <code>null</code>, if the complete iconset is used
+     */
+    public IconSprite getIconSprite() {
+        return iconSprite;
+    }
+
+    /**
+     * Returns the theme variant of the buttons with the given identifier.
+     *
+     * @param id The button identifier
+     * @return The theme variant or <code>null</code>
+     */
+    public String getButtonTheme(ButtonId id) {
+        return buttonThemes.get(id);
+    }
+
+    /**
+     * Returns, if a close button is added to a dialog without buttons.
+     *
+     * @return True, if a close button is added
+     */
+    public boolean isAddClosePerDefault() {
+        return addClosePerDefault;
+    }
+
+    /**
+     * Returns the maximum number of closed dialogs per UI, that are kept for reuse.
+     *
+     * @return The pool size or 0, if the pooling is disabled
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns the default {@link RenderingMode}.
+     *
+     * @return The rendering mode
+     */
+    public RenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    /**
+     * Returns, if the client dependencies are prefetched.
+     *
+     * @return True, if the dependencies are prefetched
+     */
+    public boolean isDependencyPrefetch() {
+        return dependencyPrefetch;
+    }
+
+    /**
+     * Returns, if the decisions are resolved in the browser.
+     *
+     * @return True, if the decisions are resolved in the browser
+     */
+    public boolean isClientResolved() {
+        return clientResolved;
+    }
+
+    /**
+     * Returns the executor of the button handlers.
+     *
+     * @return The executor or <code>null</code>, if the handlers run on the request thread
+     */
+    public Executor getHandlerExecutor() {
+        return handlerExecutor;
+    }
+
+    /**
+     * Returns the maximum duration of the button handlers, that run on an executor.
+     *
+     * @return The timeout or <code>null</code>
+     */
+    public Duration getHandlerTimeout() {
+        return handlerTimeout;
+    }
+
+    /**
+     * Returns the {@link DialogInterceptorChain}, that contains the adapter of the {@link TransitionListener} as well.
+     *
+     * @return The interceptor chain
+     */
+    public DialogInterceptorChain getInterceptorChain() {
+        return interceptorChain;
+    }
+
+    /**
+     * Returns the {@link ButtonSpec} of the given button identifier, that is computed from this configuration.
+     *
+     * @param id The button identifier
+     * @return The button specification
+     */
+    public ButtonSpec getButtonSpec(ButtonId id) {
+        ButtonSpec[] specs = buttonSpecs;
+        if (specs != null && id.getIndex() < specs.length && specs[id.getIndex()] != null) {
+            return specs[id.getIndex()];
+        }
+        return createButtonSpec(id);
+    }
+
+    private synchronized ButtonSpec createButtonSpec(ButtonId id) {
+        ButtonSpec[] specs = ButtonId.ensureCapacity(buttonSpecs == null ? new ButtonSpec[0] : buttonSpecs, id.getIndex());
+        if (specs[id.getIndex()] == null) {
+            VaadinIcon icon = null;
+            if (buttonIconsVisible && id.getButtonType() != null) {
+                icon = buttonIconFactory.getIcon(id.getButtonType());
+            }
+            specs = specs == buttonSpecs ? specs.clone() : specs;
+            specs[id.getIndex()] = new ButtonSpec(id, buttonThemes.get(id), icon, iconSprite);
+            buttonSpecs = specs;
+        }
+        return specs[id.getIndex()];
+    }
+
+    // copies =================================================================
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultTransitionListener(TransitionListener)}
+     *
+     * @param transitionListener The transition listener or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withTransitionListener(TransitionListener transitionListener) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.transitionListener = transitionListener;
+        copy.interceptorChain = interceptorChain.withTransitionListener(transitionListener);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultLanguage(Locale)}
+     *
+     * @param locale The language
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withLocale(Locale locale) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.locale = requireNonNull(locale);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultIconFactory(DialogIconFactory)}
+     *
+     * @param dialogIconFactory The dialog icon factory
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withDialogIconFactory(DialogIconFactory dialogIconFactory) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.dialogIconFactory = requireNonNull(dialogIconFactory);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultIconWidth(String)}
+     *
+     * @param iconSize The icon size
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withIconSize(String iconSize) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.iconSize = requireNonNull(iconSize);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonDefaultAlignment(FlexComponent.Alignment)}
+     *
+     * @param buttonAlignment The button alignment
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withButtonAlignment(FlexComponent.Alignment buttonAlignment) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.buttonAlignment = requireNonNull(buttonAlignment);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonDefaultCaptionFactory(ButtonCaptionFactory)}
+     *
+     * @param buttonCaptionFactory The button caption factory
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withButtonCaptionFactory(ButtonCaptionFactory buttonCaptionFactory) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.buttonCaptionFactory = requireNonNull(buttonCaptionFactory);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultMessageFactory(DialogMessageFactory)}
+     *
+     * @param messageFactory The message factory
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withMessageFactory(DialogMessageFactory messageFactory) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.messageFactory = requireNonNull(messageFactory);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonDefaultIconFactory(ButtonIconFactory)}
+     *
+     * @param buttonIconFactory The button icon factory
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withButtonIconFactory(ButtonIconFactory buttonIconFactory) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.buttonIconFactory = requireNonNull(buttonIconFactory);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonDefaultIconsVisible(boolean)}
+     *
+     * @param buttonIconsVisible The visibility of the button icons
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withButtonIconsVisible(boolean buttonIconsVisible) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.buttonIconsVisible = buttonIconsVisible;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogIconSprite(IconSprite)}
+     *
+     * @param iconSprite The icon sprite or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withIconSprite(IconSprite iconSprite) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.iconSprite = iconSprite;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonDefaultTheme(ButtonId, String)}
+     *
+     * @param id    The button identifier
+     * @param theme The theme variant or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withButtonTheme(ButtonId id, String theme) {
+        Map<ButtonId, String> themes = new HashMap<>(buttonThemes);
+        if (theme == null) {
+            themes.remove(requireNonNull(id));
+        } else {
+            themes.put(requireNonNull(id), theme);
+        }
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.buttonThemes = Collections.unmodifiableMap(themes);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setButtonAddClosePerDefault(boolean)}
+     *
+     * @param addClosePerDefault If true, a close button is added to a dialog without buttons
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withAddClosePerDefault(boolean addClosePerDefault) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.addClosePerDefault = addClosePerDefault;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogPoolSize(int)}
+     *
+     * @param poolSize The pool size or 0 to disable the pooling
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withPoolSize(int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("The pool size must not be negative.");
+        }
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.poolSize = poolSize;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultRenderingMode(RenderingMode)}
+     *
+     * @param renderingMode The rendering mode
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withRenderingMode(RenderingMode renderingMode) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.renderingMode = requireNonNull(renderingMode);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDependencyPrefetch(boolean)}
+     *
+     * @param dependencyPrefetch If true, the client dependencies are prefetched
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withDependencyPrefetch(boolean dependencyPrefetch) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.dependencyPrefetch = dependencyPrefetch;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultClientResolved(boolean)}
+     *
+     * @param clientResolved If true, the decisions are resolved in the browser
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withClientResolved(boolean clientResolved) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.clientResolved = clientResolved;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultHandlerExecutor(Executor)}
+     *
+     * @param handlerExecutor The executor or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withHandlerExecutor(Executor handlerExecutor) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.handlerExecutor = handlerExecutor;
+        copy.hasHandlerExecutor = handlerExecutor != null;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultHandlerTimeout(Duration)}
+     *
+     * @param handlerTimeout The timeout or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withHandlerTimeout(Duration handlerTimeout) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.handlerTimeout = handlerTimeout;
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#addDialogDefaultInterceptor(DialogInterceptor)}
+     *
+     * @param interceptor The interceptor, that is appended to the chain
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withInterceptor(DialogInterceptor interceptor) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.interceptorChain = interceptorChain.with(interceptor);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#removeDialogDefaultInterceptor(DialogInterceptor)}
+     *
+     * @param interceptor The interceptor, that is removed from the chain
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withoutInterceptor(DialogInterceptor interceptor) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.interceptorChain = interceptorChain.without(interceptor);
+        return copy;
+    }
+
+    /**
+     * See {@link ConfirmDialog#setDialogDefaultStageTimeout(DialogStage, Duration)}
+     *
+     * @param stage   The stage of the dialog
+     * @param timeout The timeout or <code>null</code>
+     * @return The modified copy
+     */
+    public ConfirmDialogConfig withStageTimeout(DialogStage stage, Duration timeout) {
+        ConfirmDialogConfig copy = new ConfirmDialogConfig(this);
+        copy.interceptorChain = interceptorChain.withTimeout(requireNonNull(stage), timeout);
+        return copy;
+    }
+
+    /**
+     * Returns the handler executor of the current service or the global configuration, that replaces the executor
+     * of a deserialized configuration or dialog. If there is none, the handlers run on the request thread and a
+     * warning is logged.
+     *
+     * @return The executor or <code>null</code>
+     */
+    static Executor resolveHandlerExecutor() {
+        VaadinService service = VaadinService.getCurrent();
+        ConfirmDialogConfig config = service != null ? SERVICE_CONFIGS.get(service) : null;
+        Executor executor = config != null && config.handlerExecutor != null ? config.handlerExecutor : GLOBAL.get().handlerExecutor;
+        if (executor == null) {
+            LOGGER.warn("The handler executor of a deserialized ConfirmDialog cannot be restored, because neither the "
+                    + "service nor the global configuration has one. The button handlers run on the request thread.");
+        }
+        return executor;
+    }
+
+    private Object readResolve() {
+        if (hasHandlerExecutor) {
+            handlerExecutor = resolveHandlerExecutor();
+        }
+        return this;
+    }
+
+    private static <T> T requireNonNull(T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("The configuration value must not be null.");
+        }
+        return value;
+    }
+
+}
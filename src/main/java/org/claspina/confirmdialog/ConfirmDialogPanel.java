@@ -0,0 +1,78 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.HtmlImport;
+import elemental.json.JsonArray;
+
+/**
+ * The content of a {@link ConfirmDialog} in the {@link RenderingMode#FLAT} rendering mode. Caption, message, icon and
+ * button descriptors are properties of this single element, that renders them in the browser. A custom message
+ * component is the only child of this element. The layout is styled by the same CSS custom properties as the
+ * component tree of the dialog, e.g. <code>--confirm-dialog-button-alignment</code>. The clicks on the buttons reach
+ * the dialog through its decision listener, see {@link ConfirmDialog#addDecisionListener}.
+ *
+ * @author Carlos Laspina
+ */
+@Tag("confirm-dialog-panel")
+@HtmlImport("frontend://bower_components/vaadin-button/src/vaadin-button.html")
+@HtmlImport("frontend://bower_components/iron-icon/iron-icon.html")
+@HtmlImport("frontend://confirm-dialog/confirm-dialog-panel.html")
+public class ConfirmDialogPanel extends Component {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Sets the caption.
+     *
+     * @param caption The caption or <code>null</code>
+     */
+    public void setCaption(String caption) {
+        getElement().setProperty("caption", caption);
+    }
+
+    /**
+     * Sets the plain text message.
+     *
+     * @param message The message or <code>null</code>
+     */
+    public void setMessage(String message) {
+        getElement().setProperty("message", message);
+    }
+
+    /**
+     * Sets a component as message. It replaces a previous message component.
+     *
+     * @param messageComponent The message component or <code>null</code>
+     */
+    public void setMessageComponent(Component messageComponent) {
+        getElement().removeAllChildren();
+        if (messageComponent != null) {
+            messageComponent.getElement().removeFromParent();
+            getElement().appendChild(messageComponent.getElement());
+        }
+    }
+
+    /**
+     * Sets the dialog icon.
+     *
+     * @param icon      The icon of an iconset, e.g. <code>vaadin:info-circle</code>, or <code>null</code>
+     * @param className The CSS class names of the icon
+     */
+    public void setIcon(String icon, String className) {
+        getElement().setProperty("icon", icon);
+        getElement().setProperty("iconClass", className);
+    }
+
+    /**
+     * Sets the descriptors of the buttons. Each descriptor is an object with the optional properties
+     * <code>text</code>, <code>theme</code>, <code>className</code>, <code>width</code>, <code>icon</code>,
+     * <code>key</code>, <code>autofocus</code>, <code>decision</code>, <code>close</code>, <code>busy</code> and <code>disabled</code>.
+     *
+     * @param buttons The button descriptors
+     */
+    public void setButtons(JsonArray buttons) {
+        getElement().setPropertyJson("buttons", buttons);
+    }
+
+}
@@ -0,0 +1,137 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+
+/**
+ * Keeps the closed dialogs of a {@link UI} for reuse, see {@link ConfirmDialog#setDialogPoolSize(int)}.
+ * <p>
+ * A pooled dialog is added to the UI, when it is opened first, and stays attached while it is closed, so the browser
+ * keeps the overlay element hidden instead of removing it. When a pooled dialog is opened again, only the changed
+ * caption, message, icon and buttons are sent to the browser. A dialog returns into the pool right before the response, in which it was
+ * closed, and is reset at that moment. Do not keep references to a pooled dialog after closing it.
+ * <p>
+ * The pool is only accessed while the session is locked, so it does not need any synchronization.
+ *
+ * @author Carlos Laspina
+ */
+public class ConfirmDialogPool implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UI ui;
+
+    private final ArrayDeque<ConfirmDialog> idleDialogs = new ArrayDeque<>();
+
+    private long createdCount;
+
+    private long reusedCount;
+
+    private ConfirmDialogPool(UI ui) {
+        this.ui = ui;
+    }
+
+    /**
+     * Returns the pool of the given UI. The pool is created, when it is needed first.
+     *
+     * @param ui The UI
+     * @return The pool of the UI
+     */
+    public static ConfirmDialogPool get(UI ui) {
+        ConfirmDialogPool pool = ComponentUtil.getData(ui, ConfirmDialogPool.class);
+        if (pool == null) {
+            pool = new ConfirmDialogPool(ui);
+            ComponentUtil.setData(ui, ConfirmDialogPool.class, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * Returns a closed dialog of this pool or a new dialog, if the pool is empty.
+     *
+     * @return The dialog
+     */
+    ConfirmDialog acquire() {
+        ConfirmDialog dialog = idleDialogs.pollFirst();
+        if (dialog != null) {
+            reusedCount++;
+            return dialog;
+        }
+
+        dialog = new ConfirmDialog(this);
+        createdCount++;
+        return dialog;
+    }
+
+    /**
+     * Adds the given dialog to the UI, if it is not attached yet. A new dialog is attached, when it is opened first,
+     * so its client dependencies are not loaded earlier.
+     *
+     * @param dialog The dialog of this pool
+     */
+    void attach(ConfirmDialog dialog) {
+        if (!dialog.getParent().isPresent()) {
+            ui.add(dialog);
+        }
+    }
+
+    /**
+     * Schedules the return of the given dialog into the pool. The dialog is returned right before the next response,
+     * unless it has been opened again in the meantime.
+     *
+     * @param dialog The closed dialog
+     */
+    void release(ConfirmDialog dialog) {
+        ui.beforeClientResponse(dialog, context -> {
+            if (!dialog.isOpened() && !idleDialogs.contains(dialog)) {
+                dialog.reset();
+                if (idleDialogs.size() < dialog.getConfig().getPoolSize()) {
+                    idleDialogs.addFirst(dialog);
+                } else {
+                    dialog.getElement().removeFromParent();
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes all closed dialogs of this pool from the UI.
+     */
+    public void clear() {
+        for (ConfirmDialog dialog : idleDialogs) {
+            dialog.getElement().removeFromParent();
+        }
+        idleDialogs.clear();
+    }
+
+    /**
+     * Returns the number of closed dialogs, that are ready for reuse.
+     *
+     * @return The number of closed dialogs
+     */
+    public int getIdleCount() {
+        return idleDialogs.size();
+    }
+
+    /**
+     * Returns the number of dialogs, that were created by this pool.
+     *
+     * @return The number of created dialogs
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Returns the number of dialogs, that were reused from this pool.
+     *
+     * @return The number of reused dialogs
+     */
+    public long getReusedCount() {
+        return reusedCount;
+    }
+
+}
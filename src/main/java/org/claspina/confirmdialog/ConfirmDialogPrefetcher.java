@@ -0,0 +1,86 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+import org.claspina.confirmdialog.icons.SpriteIcon;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the client dependencies of the {@link ConfirmDialog} during browser idle time, see
+ * {@link ConfirmDialog#setDialogDependencyPrefetch(boolean)}.
+ * <p>
+ * Without prefetching, the dependencies of the dialog (<code>vaadin-dialog</code>, <code>vaadin-button</code>, the
+ * layouts and the iconset) are loaded with the response, that opens the first dialog in a UI. With prefetching, the
+ * browser asks for them as soon as it is idle after the initial page load, so neither the initial page load nor the
+ * first dialog waits for them.
+ * <p>
+ * This class is registered as {@link VaadinServiceInitListener}, so it prefetches the dependencies for each new UI,
+ * if the prefetching is enabled.
+ *
+ * @author Carlos Laspina
+ */
+public class ConfirmDialogPrefetcher implements VaadinServiceInitListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String PREFETCH_EVENT = "confirm-dialog-prefetch";
+
+    private static final String PREFETCH_SCRIPT = "(window.requestIdleCallback || function(callback) {"
+            + " setTimeout(callback, 1); })(function() { $0.dispatchEvent(new CustomEvent('" + PREFETCH_EVENT + "')); });";
+
+    /**
+     * See {@link VaadinServiceInitListener#serviceInit(ServiceInitEvent)}
+     */
+    @Override
+    public void serviceInit(ServiceInitEvent event) {
+        event.getSource().addUIInitListener(uiInitEvent -> {
+            if (ConfirmDialogConfig.get(uiInitEvent.getUI()).isDependencyPrefetch()) {
+                prefetch(uiInitEvent.getUI());
+            }
+        });
+    }
+
+    /**
+     * Asks the browser of the given UI to request the client dependencies of the dialog, as soon as it is idle.
+     *
+     * @param ui The UI
+     */
+    public static void prefetch(UI ui) {
+        ui.getElement().addEventListener(PREFETCH_EVENT, event -> {
+            // the dependencies are sent only once per UI, even if the event is repeated
+            for (Class<? extends Component> componentClass : getComponentClasses(ConfirmDialogConfig.get(ui))) {
+                ui.getInternals().addComponentDependencies(componentClass);
+            }
+        });
+        ui.getPage().executeJavaScript(PREFETCH_SCRIPT, ui.getElement());
+    }
+
+    /**
+     * Returns the component classes of a dialog in the given configuration.
+     *
+     * @param config The configuration
+     * @return The component classes
+     */
+    private static List<Class<? extends Component>> getComponentClasses(ConfirmDialogConfig config) {
+        List<Class<? extends Component>> classes = new ArrayList<>();
+        classes.add(ConfirmDialog.class);
+        classes.add(Button.class);
+        if (config.getRenderingMode() == RenderingMode.FLAT) {
+            classes.add(ConfirmDialogPanel.class);
+        } else {
+            classes.add(VerticalLayout.class);
+            classes.add(HorizontalLayout.class);
+        }
+        classes.add(config.getIconSprite() != null ? SpriteIcon.class : Icon.class);
+        return classes;
+    }
+
+}
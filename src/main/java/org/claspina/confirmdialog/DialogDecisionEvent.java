@@ -0,0 +1,62 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.ComponentEvent;
+import com.vaadin.flow.component.button.Button;
+
+/**
+ * Is fired, when the user clicks a button of a {@link ConfirmDialog}, see
+ * {@link ConfirmDialog#addDecisionListener(com.vaadin.flow.component.ComponentEventListener)}. The event is fired
+ * before the Runnable of the button is executed and before the dialog is closed.
+ *
+ * @author Carlos Laspina
+ */
+public class DialogDecisionEvent extends ComponentEvent<ConfirmDialog> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ButtonId buttonId;
+
+    private final Button button;
+
+    /**
+     * Creates a decision event.
+     *
+     * @param source     The dialog
+     * @param fromClient <code>true</code>, if the event originated from the client
+     * @param buttonId   The identifier of the clicked button or <code>null</code> for an anonymous button
+     * @param button     The clicked button
+     */
+    public DialogDecisionEvent(ConfirmDialog source, boolean fromClient, ButtonId buttonId, Button button) {
+        super(source, fromClient);
+        this.buttonId = buttonId;
+        this.button = button;
+    }
+
+    /**
+     * Returns the identifier of the clicked button.
+     *
+     * @return The button identifier or <code>null</code> for an anonymous button
+     */
+    public ButtonId getButtonId() {
+        return buttonId;
+    }
+
+    /**
+     * Returns the type of the clicked button.
+     *
+     * @return The button type or <code>null</code> for a custom button
+     */
+    public ButtonType getButtonType() {
+        return buttonId == null ? null : buttonId.getButtonType();
+    }
+
+    /**
+     * Returns the clicked button.
+     *
+     * @return The button
+     */
+    public Button getButton() {
+        return button;
+    }
+
+}
@@ -0,0 +1,45 @@
+package org.claspina.confirmdialog;
+
+import java.io.Serializable;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Intercepts the stages of a {@link ConfirmDialog}, e.g. to play a transition, to check a permission or to audit a
+ * decision. The interceptors are registered in the {@link DialogInterceptorChain} of the {@link ConfirmDialogConfig}
+ * and called in their order:
+ * <pre>
+ * ConfirmDialogConfig.update(config -&gt; config.withInterceptor((stage, dialog, buttonId) -&gt;
+ *         stage == DialogStage.DECISION ? auditService.recordAsync(dialog, buttonId) : CompletableFuture.completedFuture(true)));
+ * </pre>
+ * An interceptor returns a stage, that completes with <code>true</code>, if the dialog may go on, or with
+ * <code>false</code>, if it vetoes the stage. The dialog waits for the stage without blocking the request thread, so
+ * an interceptor may complete it later on another thread. A stage, that fails or exceeds the timeout of the chain,
+ * vetoes as well.
+ *
+ * @author Carlos Laspina
+ */
+@FunctionalInterface
+public interface DialogInterceptor extends Serializable {
+
+    /**
+     * Intercepts a stage of the dialog. The method is called while the session is locked.
+     *
+     * @param stage    The stage of the dialog
+     * @param dialog   The <code>ConfirmDialog</code> instance
+     * @param buttonId The identifier of the clicked button in the {@link DialogStage#DECISION} stage or
+     *                 <code>null</code>, e.g. for a custom button or in the other stages
+     * @return The stage, that completes with <code>true</code>, if the dialog may go on. Otherwise <code>false</code>.
+     */
+    CompletionStage<Boolean> intercept(DialogStage stage, ConfirmDialog dialog, ButtonId buttonId);
+
+    /**
+     * Returns, if this interceptor does not depend on the result of its predecessors. Consecutive independent
+     * interceptors are called together and the chain waits for all of them at once, instead of one after the other.
+     *
+     * @return True, if this interceptor is independent. The default is <code>false</code>.
+     */
+    default boolean isIndependent() {
+        return false;
+    }
+
+}
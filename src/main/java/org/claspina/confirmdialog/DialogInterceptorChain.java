@@ -0,0 +1,263 @@
+package org.claspina.confirmdialog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * An immutable, ordered chain of {@link DialogInterceptor}s, that is part of the {@link ConfirmDialogConfig}.
+ * <p>
+ * The interceptors of a stage are called one after the other. The next interceptor is only called, if its
+ * predecessor allowed the stage, and the first veto ends the stage. Consecutive independent interceptors, see
+ * {@link DialogInterceptor#isIndependent()}, are called together and their stages are awaited at once. If an
+ * interceptor completes later, its successors are called by {@link com.vaadin.flow.component.UI#access}, so each
+ * interceptor is called while the session is locked.
+ * <p>
+ * Each stage of the dialog may have a timeout, that limits each interceptor of the stage. An interceptor, that exceeds
+ * it or fails, vetoes the stage and is logged. The latency of each interceptor is recorded in its
+ * {@link InterceptorStatistics}, that are kept, when the chain is copied.
+ * <p>
+ * A {@link TransitionListener} of the configuration is adapted by a {@link TransitionListenerInterceptor}, that is
+ * always the first interceptor of the chain.
+ *
+ * @author Carlos Laspina
+ */
+public final class DialogInterceptorChain implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DialogInterceptorChain.class);
+
+    static final DialogInterceptorChain EMPTY = new DialogInterceptorChain(new Entry[0], new Duration[DialogStage.values().length]);
+
+    private final Entry[] entries;
+
+    /**
+     * Keeps the timeouts indexed by the ordinal of the {@link DialogStage}.
+     */
+    private final Duration[] timeouts;
+
+    private DialogInterceptorChain(Entry[] entries, Duration[] timeouts) {
+        this.entries = entries;
+        this.timeouts = timeouts;
+    }
+
+    /**
+     * Returns, if this chain does not contain any interceptor.
+     *
+     * @return True, if the chain is empty
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Returns the interceptors in the order, in which they are called.
+     *
+     * @return The interceptors
+     */
+    public List<DialogInterceptor> getInterceptors() {
+        List<DialogInterceptor> interceptors = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            interceptors.add(entry.interceptor);
+        }
+        return Collections.unmodifiableList(interceptors);
+    }
+
+    /**
+     * Returns the timeout of each interceptor in the given stage.
+     *
+     * @param stage The stage of the dialog
+     * @return The timeout or <code>null</code>
+     */
+    public Duration getTimeout(DialogStage stage) {
+        return timeouts[stage.ordinal()];
+    }
+
+    /**
+     * Returns the statistics of the given interceptor.
+     *
+     * @param interceptor The interceptor
+     * @return The statistics or <code>null</code>, if the interceptor is not part of this chain
+     */
+    public InterceptorStatistics getStatistics(DialogInterceptor interceptor) {
+        for (Entry entry : entries) {
+            if (entry.interceptor == interceptor) {
+                return entry.statistics;
+            }
+        }
+        return null;
+    }
+
+    // copies =================================================================
+
+    /**
+     * Returns a copy of this chain, where the given interceptor is appended.
+     */
+    DialogInterceptorChain with(DialogInterceptor interceptor) {
+        if (interceptor == null) {
+            throw new IllegalArgumentException("The interceptor must not be null.");
+        }
+        if (getStatistics(interceptor) != null) {
+            throw new IllegalArgumentException("The interceptor is part of the chain already.");
+        }
+        Entry[] copy = Arrays.copyOf(entries, entries.length + 1);
+        copy[entries.length] = new Entry(interceptor, false);
+        return new DialogInterceptorChain(copy, timeouts);
+    }
+
+    /**
+     * Returns a copy of this chain without the given interceptor.
+     */
+    DialogInterceptorChain without(DialogInterceptor interceptor) {
+        return new DialogInterceptorChain(Arrays.stream(entries)
+                .filter(entry -> entry.interceptor != interceptor)
+                .toArray(Entry[]::new), timeouts);
+    }
+
+    /**
+     * Returns a copy of this chain, where the adapter of the given listener replaces the adapter of the former one.
+     */
+    DialogInterceptorChain withTransitionListener(TransitionListener transitionListener) {
+        List<Entry> copy = new ArrayList<>(Arrays.asList(entries));
+        copy.removeIf(entry -> entry.transition);
+        if (transitionListener != null) {
+            copy.add(0, new Entry(new TransitionListenerInterceptor(transitionListener), true));
+        }
+        return new DialogInterceptorChain(copy.toArray(new Entry[0]), timeouts);
+    }
+
+    /**
+     * Returns a copy of this chain with the given timeout of each interceptor in the given stage.
+     */
+    DialogInterceptorChain withTimeout(DialogStage stage, Duration timeout) {
+        if (timeout != null && (timeout.isNegative() || timeout.isZero())) {
+            throw new IllegalArgumentException("The timeout must be positive.");
+        }
+        Duration[] copy = timeouts.clone();
+        copy[stage.ordinal()] = timeout;
+        return new DialogInterceptorChain(entries, copy);
+    }
+
+    // interception ===========================================================
+
+    /**
+     * Calls the interceptors of the given stage. The returned stage never completes exceptionally.
+     *
+     * @param stage        The stage of the dialog
+     * @param dialog       The dialog
+     * @param buttonId     The identifier of the clicked button or <code>null</code>
+     * @param continuation The executor, that calls the successors of an interceptor, that completed later
+     * @return The stage, that completes with <code>true</code>, if all interceptors allowed the stage
+     */
+    CompletableFuture<Boolean> intercept(DialogStage stage, ConfirmDialog dialog, ButtonId buttonId, Executor continuation) {
+        CompletableFuture<Boolean> result = CompletableFuture.completedFuture(true);
+        int start = 0;
+        while (start < entries.length && result.getNow(true)) {
+            int end = start + 1;
+            if (entries[start].interceptor.isIndependent()) {
+                while (end < entries.length && entries[end].interceptor.isIndependent()) {
+                    end++;
+                }
+            }
+            Entry[] group = Arrays.copyOfRange(entries, start, end);
+            Function<Boolean, CompletableFuture<Boolean>> next = allowed -> allowed
+                    ? call(group, stage, dialog, buttonId) : CompletableFuture.completedFuture(false);
+            result = result.isDone() ? result.thenCompose(next) : result.thenComposeAsync(next, continuation);
+            start = end;
+        }
+        return result;
+    }
+
+    private CompletableFuture<Boolean> call(Entry[] group, DialogStage stage, ConfirmDialog dialog, ButtonId buttonId) {
+        if (group.length == 1) {
+            return call(group[0], stage, dialog, buttonId);
+        }
+
+        // the first veto completes the group, the others are still recorded
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(group.length);
+        for (Entry entry : group) {
+            call(entry, stage, dialog, buttonId).thenAccept(allowed -> {
+                if (!allowed) {
+                    result.complete(false);
+                } else if (pending.decrementAndGet() == 0) {
+                    result.complete(true);
+                }
+            });
+        }
+        return result;
+    }
+
+    private CompletableFuture<Boolean> call(Entry entry, DialogStage stage, ConfirmDialog dialog, ButtonId buttonId) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            entry.interceptor.intercept(stage, dialog, buttonId).whenComplete((allowed, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure);
+                } else {
+                    result.complete(allowed);
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        Duration timeout = timeouts[stage.ordinal()];
+        if (timeout != null && !result.isDone()) {
+            ScheduledFuture<?> timer = HandlerExecutors.schedule(
+                    () -> result.completeExceptionally(new TimeoutException()), timeout.toMillis());
+            result.whenComplete((allowed, failure) -> timer.cancel(false));
+        }
+
+        return result.handle((allowed, failure) -> {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            boolean timedOut = cause instanceof TimeoutException;
+            entry.statistics.record(System.nanoTime() - startNanos, Boolean.TRUE.equals(allowed), timedOut, cause != null && !timedOut);
+            if (timedOut) {
+                LOGGER.warn("The interceptor {} exceeded the timeout of the {} stage.", entry.interceptor, stage);
+            } else if (cause != null) {
+                LOGGER.warn("The interceptor {} failed in the {} stage.", entry.interceptor, stage, cause);
+            }
+            return cause == null && Boolean.TRUE.equals(allowed);
+        });
+    }
+
+    /**
+     * Keeps an interceptor with its statistics, that are shared by the copies of the chain.
+     */
+    private static final class Entry implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final DialogInterceptor interceptor;
+
+        private final InterceptorStatistics statistics = new InterceptorStatistics();
+
+        /**
+         * True, if this is the adapter of the {@link TransitionListener} of the configuration.
+         */
+        private final boolean transition;
+
+        private Entry(DialogInterceptor interceptor, boolean transition) {
+            this.interceptor = interceptor;
+            this.transition = transition;
+        }
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.claspina.confirmdialog;
+
+/**
+ * An enumeration of the stages of a {@link ConfirmDialog}, that are intercepted by the {@link DialogInterceptor}s.
+ *
+ * @author Carlos Laspina
+ */
+public enum DialogStage {
+
+    /**
+     * The dialog is about to be opened.
+     */
+    OPEN,
+
+    /**
+     * A button has been clicked and the decision is about to be executed, i.e. the {@link DialogDecisionEvent} is
+     * fired and the handler of the button is run.
+     */
+    DECISION,
+
+    /**
+     * The dialog is about to be closed.
+     */
+    CLOSE
+
+}
@@ -0,0 +1,257 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import org.claspina.confirmdialog.i18n.DialogMessageFactory;
+import org.claspina.confirmdialog.icons.DialogSeverity;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An immutable description of a dialog, that is built once and shared by all sessions. Each call of
+ * {@link #instantiate(Object...)} creates a {@link ConfirmDialog} from it:
+ * <pre>
+ * static final DialogTemplate DELETE = DialogTemplate.builder()
+ *         .withSeverity(DialogSeverity.QUESTION)
+ *         .withCaptionKey("delete.caption")
+ *         .withMessageKey("delete.message")
+ *         .withButton(ButtonType.YES)
+ *         .withButton(ButtonType.NO)
+ *         .build();
+ *
+ * DELETE.instantiate(new Runnable[]{this::delete, null}, order.getNumber()).open();
+ * </pre>
+ * The caption and message keys are translated by the {@link DialogMessageFactory} with the given arguments. The button
+ * options are prepared once by the template, so instantiating a dialog does not evaluate any {@link ButtonOption}
+ * arrays. The fluent methods of {@link ConfirmDialog} remain the way to build one-off dialogs.
+ *
+ * @author Carlos Laspina
+ */
+public final class DialogTemplate implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ButtonOption[] CLOSE_ON_CLICK = {ButtonOption.closeOnClick(true)};
+
+    private static final ButtonOption[] KEEP_OPEN_ON_CLICK = {ButtonOption.closeOnClick(false)};
+
+    private final String captionKey;
+
+    private final String messageKey;
+
+    private final DialogSeverity severity;
+
+    private final ButtonId[] buttonIds;
+
+    private final boolean[] closeOnClick;
+
+    private final FlexComponent.Alignment buttonAlignment;
+
+    private final String buttonWidth;
+
+    private DialogTemplate(Builder builder) {
+        this.captionKey = builder.captionKey;
+        this.messageKey = builder.messageKey;
+        this.severity = builder.severity;
+        this.buttonIds = builder.buttonIds.toArray(new ButtonId[0]);
+        this.closeOnClick = new boolean[buttonIds.length];
+        for (int i = 0; i < buttonIds.length; i++) {
+            closeOnClick[i] = builder.closeOnClick.get(i);
+        }
+        this.buttonAlignment = builder.buttonAlignment;
+        this.buttonWidth = builder.buttonWidth;
+    }
+
+    /**
+     * Creates a builder for a template.
+     *
+     * @return The builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a dialog from this template. The buttons do not execute any Runnable on clicking.
+     *
+     * @param args The arguments of the caption and message patterns
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog instantiate(Object... args) {
+        return instantiate(null, args);
+    }
+
+    /**
+     * Creates a dialog from this template.
+     *
+     * @param handlers The Runnables, that are executed on clicking the buttons, in the order of the buttons of this
+     *                 template. The array and its items may be <code>null</code>.
+     * @param args     The arguments of the caption and message patterns
+     * @return The {@link ConfirmDialog} instance
+     */
+    public ConfirmDialog instantiate(Runnable[] handlers, Object... args) {
+        ConfirmDialog dialog = ConfirmDialog.create();
+        Locale language = dialog.getCaptionLanguage();
+
+        if (severity != null) {
+            dialog.withSeverity(severity);
+        }
+        if (captionKey != null) {
+            dialog.withCaption(dialog.getConfig().getMessageFactory().translate(captionKey, language, args));
+        }
+        if (messageKey != null) {
+            dialog.withMessage(dialog.getConfig().getMessageFactory().translate(messageKey, language, args));
+        }
+
+        for (int i = 0; i < buttonIds.length; i++) {
+            Runnable handler = handlers != null && i < handlers.length ? handlers[i] : null;
+            dialog.withButton(dialog.createButton(buttonIds[i], handler), closeOnClick[i] ? CLOSE_ON_CLICK : KEEP_OPEN_ON_CLICK);
+        }
+
+        if (buttonAlignment != null) {
+            dialog.withButtonAlignment(buttonAlignment);
+        }
+        if (buttonWidth != null) {
+            dialog.withWidthForAllButtons(buttonWidth);
+        }
+        return dialog;
+    }
+
+    /**
+     * Returns the identifiers of the buttons in the order of the dialog.
+     *
+     * @return The button identifiers
+     */
+    public ButtonId[] getButtonIds() {
+        return buttonIds.clone();
+    }
+
+    /**
+     * The builder of a {@link DialogTemplate}.
+     */
+    public static final class Builder {
+
+        private String captionKey;
+
+        private String messageKey;
+
+        private DialogSeverity severity;
+
+        private final List<ButtonId> buttonIds = new ArrayList<>();
+
+        private final List<Boolean> closeOnClick = new ArrayList<>();
+
+        private FlexComponent.Alignment buttonAlignment;
+
+        private String buttonWidth;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the key of the caption, see {@link ConfirmDialog#withCaptionKey(String, Object...)}.
+         *
+         * @param captionKey The key of the caption
+         * @return The builder
+         */
+        public Builder withCaptionKey(String captionKey) {
+            this.captionKey = captionKey;
+            return this;
+        }
+
+        /**
+         * Sets the key of the message, see {@link ConfirmDialog#withMessageKey(String, Object...)}.
+         *
+         * @param messageKey The key of the message
+         * @return The builder
+         */
+        public Builder withMessageKey(String messageKey) {
+            this.messageKey = messageKey;
+            return this;
+        }
+
+        /**
+         * Sets the severity, that defines the dialog icon.
+         *
+         * @param severity The severity or <code>null</code> for a dialog without an icon
+         * @return The builder
+         */
+        public Builder withSeverity(DialogSeverity severity) {
+            this.severity = severity;
+            return this;
+        }
+
+        /**
+         * Adds a button. Like {@link ConfirmDialog#withHelpButton(ButtonOption...)}, only the help button does not
+         * close the dialog on clicking.
+         *
+         * @param buttonType The button type
+         * @return The builder
+         */
+        public Builder withButton(ButtonType buttonType) {
+            return withButton(buttonType, buttonType != ButtonType.HELP);
+        }
+
+        /**
+         * Adds a button.
+         *
+         * @param buttonType   The button type
+         * @param closeOnClick If true, then the dialog is closed on clicking the button
+         * @return The builder
+         */
+        public Builder withButton(ButtonType buttonType, boolean closeOnClick) {
+            return withButton(ButtonId.of(buttonType), closeOnClick);
+        }
+
+        /**
+         * Adds a button.
+         *
+         * @param id           The button identifier, see {@link ButtonId#register(String)}
+         * @param closeOnClick If true, then the dialog is closed on clicking the button
+         * @return The builder
+         */
+        public Builder withButton(ButtonId id, boolean closeOnClick) {
+            if (id == null) {
+                throw new IllegalArgumentException("The button identifier must not be null.");
+            }
+            buttonIds.add(id);
+            this.closeOnClick.add(closeOnClick);
+            return this;
+        }
+
+        /**
+         * Sets the button alignment, see {@link ConfirmDialog#withButtonAlignment(FlexComponent.Alignment)}.
+         *
+         * @param alignment The button alignment
+         * @return The builder
+         */
+        public Builder withButtonAlignment(FlexComponent.Alignment alignment) {
+            this.buttonAlignment = alignment;
+            return this;
+        }
+
+        /**
+         * Sets the width of all buttons, see {@link ConfirmDialog#withWidthForAllButtons(String)}.
+         *
+         * @param width The button width
+         * @return The builder
+         */
+        public Builder withWidthForAllButtons(String width) {
+            this.buttonWidth = width;
+            return this;
+        }
+
+        /**
+         * Creates the immutable template.
+         *
+         * @return The template
+         */
+        public DialogTemplate build() {
+            return new DialogTemplate(this);
+        }
+
+    }
+
+}
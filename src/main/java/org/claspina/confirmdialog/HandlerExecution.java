@@ -0,0 +1,125 @@
+package org.claspina.confirmdialog;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import com.vaadin.flow.component.button.Button;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the handler of a clicked button on an executor, while the session is not locked, see
+ * {@link ConfirmDialog#withHandlerExecutor(Executor)}. When the handler finishes, the dialog is notified through
+ * {@link UI#access(com.vaadin.flow.server.Command)}.
+ *
+ * @author Carlos Laspina
+ */
+class HandlerExecution {
+
+    private final ConfirmDialog dialog;
+
+    private final Button button;
+
+    private final UI ui;
+
+    private HandlerTask task;
+
+    private volatile ScheduledFuture<?> timeoutTask;
+
+    private volatile boolean timedOut;
+
+    HandlerExecution(ConfirmDialog dialog, Button button, UI ui) {
+        this.dialog = dialog;
+        this.button = button;
+        this.ui = ui;
+    }
+
+    /**
+     * Returns the clicked button.
+     *
+     * @return The button
+     */
+    Button getButton() {
+        return button;
+    }
+
+    /**
+     * Submits the handler to the executor.
+     *
+     * @param executor The executor
+     * @param handler  The handler of the button
+     * @param timeout  The maximum duration of the handler or <code>null</code>
+     */
+    void start(Executor executor, Runnable handler, Duration timeout) {
+        task = new HandlerTask(handler);
+        // the timer is scheduled first, so a fast handler finds it in finish() and cancels it
+        if (timeout != null) {
+            timeoutTask = HandlerExecutors.schedule(() -> {
+                if (!task.isDone()) {
+                    timedOut = true;
+                    task.cancel(true);
+                }
+            }, timeout.toMillis());
+        }
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.reject(e);
+        }
+    }
+
+    /**
+     * Cancels the handler. The thread of the handler is interrupted.
+     */
+    void cancel() {
+        task.cancel(true);
+    }
+
+    private void finish() {
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        }
+        try {
+            ui.access(() -> {
+                Throwable failure = null;
+                try {
+                    task.get();
+                } catch (CancellationException e) {
+                    failure = timedOut ? new TimeoutException("The handler of the button exceeded its timeout.") : e;
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure = e;
+                }
+                dialog.finishHandler(this, failure);
+            });
+        } catch (UIDetachedException e) {
+            // nobody is waiting for the result anymore
+        }
+    }
+
+    private class HandlerTask extends FutureTask<Void> {
+
+        HandlerTask(Runnable handler) {
+            super(handler, null);
+        }
+
+        void reject(Throwable throwable) {
+            setException(throwable);
+        }
+
+        @Override
+        protected void done() {
+            finish();
+        }
+
+    }
+
+}
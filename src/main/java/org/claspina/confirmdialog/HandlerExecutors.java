@@ -0,0 +1,86 @@
+package org.claspina.confirmdialog;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors for the button handlers of a {@link ConfirmDialog}, see
+ * {@link ConfirmDialog#setDialogDefaultHandlerExecutor(java.util.concurrent.Executor)}.
+ * <p>
+ * On a Java runtime with virtual threads (Java 21 or later), each handler runs on its own virtual thread. The library
+ * is compiled for Java 8, so the virtual thread executor is looked up at runtime. On older runtimes, the handlers run
+ * on a bounded pool of daemon threads.
+ *
+ * @author Carlos Laspina
+ */
+public final class HandlerExecutors {
+
+    private static final int POOL_QUEUE_CAPACITY = 1000;
+
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+    private static ScheduledExecutorService timeoutScheduler;
+
+    private HandlerExecutors() {
+    }
+
+    /**
+     * Creates an executor, that runs each handler on a virtual thread, if the runtime supports them, or on a bounded
+     * pool of daemon threads otherwise.
+     *
+     * @return The executor. It should be shut down, when the application stops.
+     */
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return newBoundedExecutor(Math.max(2, Runtime.getRuntime().availableProcessors()));
+        }
+    }
+
+    /**
+     * Creates a pool of daemon threads. Idle threads are terminated after a minute. If all threads are busy and the
+     * queue is full, further handlers are rejected and reported as errors.
+     *
+     * @param threads The maximum number of threads
+     * @return The executor. It should be shut down, when the application stops.
+     */
+    public static ExecutorService newBoundedExecutor(int threads) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(POOL_QUEUE_CAPACITY), daemonThreads("confirm-dialog-handler-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Schedules the given task, e.g. the cancellation of a handler, that exceeds its timeout.
+     *
+     * @param task   The task
+     * @param millis The delay in milliseconds
+     * @return The scheduled task
+     */
+    static synchronized ScheduledFuture<?> schedule(Runnable task, long millis) {
+        if (timeoutScheduler == null) {
+            timeoutScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("confirm-dialog-timeout-"));
+        }
+        return timeoutScheduler.schedule(task, millis, TimeUnit.MILLISECONDS);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.claspina.confirmdialog;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the latency of a {@link DialogInterceptor}, i.e. the time from its call until its stage completes, see
+ * {@link DialogInterceptorChain#getStatistics(DialogInterceptor)}.
+ * <p>
+ * The statistics are updated by the threads, that complete the stages, so they are only counted and never locked.
+ *
+ * @author Carlos Laspina
+ */
+public final class InterceptorStatistics implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final LongAdder vetoCount = new LongAdder();
+
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    InterceptorStatistics() {
+    }
+
+    void record(long nanos, boolean allowed, boolean timedOut, boolean failed) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (timedOut) {
+            timeoutCount.increment();
+        } else if (failed) {
+            failureCount.increment();
+        } else if (!allowed) {
+            vetoCount.increment();
+        }
+    }
+
+    /**
+     * Returns the number of calls.
+     *
+     * @return The number of calls
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the total latency of all calls.
+     *
+     * @return The total latency
+     */
+    public Duration getTotalLatency() {
+        return Duration.ofNanos(totalNanos.sum());
+    }
+
+    /**
+     * Returns the average latency of a call.
+     *
+     * @return The average latency or {@link Duration#ZERO}, if the interceptor was not called yet
+     */
+    public Duration getAverageLatency() {
+        long calls = count.sum();
+        return calls == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / calls);
+    }
+
+    /**
+     * Returns the maximum latency of a call.
+     *
+     * @return The maximum latency
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxNanos.get());
+    }
+
+    /**
+     * Returns the number of calls, that vetoed their stage by completing with <code>false</code>.
+     *
+     * @return The number of vetoes
+     */
+    public long getVetoCount() {
+        return vetoCount.sum();
+    }
+
+    /**
+     * Returns the number of calls, that exceeded the timeout of their stage.
+     *
+     * @return The number of timeouts
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Returns the number of calls, that failed with an exception.
+     *
+     * @return The number of failures
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptorStatistics[count=" + getCount() + ", average=" + getAverageLatency() + ", max="
+                + getMaxLatency() + ", vetoes=" + getVetoCount() + ", timeouts=" + getTimeoutCount() + ", failures="
+                + getFailureCount() + "]";
+    }
+
+}
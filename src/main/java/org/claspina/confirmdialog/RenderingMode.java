@@ -0,0 +1,21 @@
+package org.claspina.confirmdialog;
+
+/**
+ * An enumeration of the ways, how a {@link ConfirmDialog} is rendered in the browser.
+ *
+ * @author Carlos Laspina
+ */
+public enum RenderingMode {
+
+    /**
+     * The dialog content is a tree of layouts, labels, icons and buttons. Each of them is a component on the server.
+     */
+    COMPONENTS,
+
+    /**
+     * The dialog content is a single {@link ConfirmDialogPanel}. Caption, message, icon and buttons are sent as
+     * properties of one element, the buttons are not attached on the server.
+     */
+    FLAT
+
+}
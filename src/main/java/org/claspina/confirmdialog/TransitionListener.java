@@ -5,6 +5,9 @@ import java.io.Serializable;
 /**
  * Intercepts the displaying and closing of the ConfirmDialog. Can be used to create transitions for the ConfirmDialog
  * like fade in or out.
+ * <p>
+ * The listener answers synchronously. It is adapted by a {@link TransitionListenerInterceptor}, that runs first in the
+ * {@link DialogInterceptorChain}; a {@link DialogInterceptor} can answer asynchronously instead.
  *
  * @author Dieter Steinwedel
  * @author Carlos Laspina
@@ -0,0 +1,62 @@
+package org.claspina.confirmdialog;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Adapts a {@link TransitionListener} to the {@link DialogInterceptorChain}. The listener answers the
+ * {@link DialogStage#OPEN} and {@link DialogStage#CLOSE} stages synchronously, the decisions are not intercepted.
+ * <p>
+ * The chain keeps the adapter of {@link ConfirmDialogConfig#getTransitionListener()} in front of all other
+ * interceptors.
+ *
+ * @author Carlos Laspina
+ */
+public final class TransitionListenerInterceptor implements DialogInterceptor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final TransitionListener transitionListener;
+
+    /**
+     * Creates the adapter of the given listener.
+     *
+     * @param transitionListener The transition listener
+     */
+    public TransitionListenerInterceptor(TransitionListener transitionListener) {
+        if (transitionListener == null) {
+            throw new IllegalArgumentException("The transition listener must not be null.");
+        }
+        this.transitionListener = transitionListener;
+    }
+
+    /**
+     * Returns the adapted listener.
+     *
+     * @return The transition listener
+     */
+    public TransitionListener getTransitionListener() {
+        return transitionListener;
+    }
+
+    /**
+     * See {@link DialogInterceptor#intercept(DialogStage, ConfirmDialog, ButtonId)}
+     */
+    @Override
+    public CompletionStage<Boolean> intercept(DialogStage stage, ConfirmDialog dialog, ButtonId buttonId) {
+        switch (stage) {
+            case OPEN:
+                return CompletableFuture.completedFuture(transitionListener.show(dialog));
+            case CLOSE:
+                return CompletableFuture.completedFuture(transitionListener.close(dialog));
+            default:
+                return CompletableFuture.completedFuture(true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TransitionListenerInterceptor[" + transitionListener + "]";
+    }
+
+}
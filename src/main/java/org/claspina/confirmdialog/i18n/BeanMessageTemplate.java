@@ -0,0 +1,248 @@
+package org.claspina.confirmdialog.i18n;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A message template with placeholders, that refer to properties of a bean, e.g.
+ * <code>Delete order {order.number} for {customer.name}?</code>. A placeholder is a path of property names separated
+ * by dots. A property is read by its getter <code>getName()</code>, <code>isName()</code> or by the method
+ * <code>name()</code>. If a property along the path is <code>null</code>, the placeholder is rendered as empty text.
+ * <p>
+ * The property paths are resolved only once per template and bean class into method handles. The compiled templates
+ * are cached, so rendering a template does not use reflection. The cache keeps the most recently used templates of
+ * each bean class, so templates should be constants; a template, that is built dynamically, is compiled again, once it
+ * has been evicted.
+ *
+ * @param <T> The type of the bean
+ * @author Carlos Laspina
+ */
+public final class BeanMessageTemplate<T> {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * The maximum number of cached templates per bean class.
+     */
+    public static final int CACHE_SIZE = 256;
+
+    /**
+     * Keeps the compiled templates per bean class in access order. A map is only accessed while it is locked.
+     */
+    private static final ClassValue<Map<String, BeanMessageTemplate<?>>> TEMPLATES =
+            new ClassValue<Map<String, BeanMessageTemplate<?>>>() {
+                @Override
+                protected Map<String, BeanMessageTemplate<?>> computeValue(Class<?> type) {
+                    return new LinkedHashMap<String, BeanMessageTemplate<?>>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<String, BeanMessageTemplate<?>> eldest) {
+                            return size() > CACHE_SIZE;
+                        }
+                    };
+                }
+            };
+
+    /**
+     * The literal text parts. There is one more literal than accessor paths.
+     */
+    private final String[] literals;
+
+    /**
+     * The accessors of each placeholder, in the order of the path.
+     */
+    private final MethodHandle[][] accessors;
+
+    private final int literalLength;
+
+    private BeanMessageTemplate(String[] literals, MethodHandle[][] accessors) {
+        this.literals = literals;
+        this.accessors = accessors;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the compiled template for the given bean class. The result is cached, see {@link #CACHE_SIZE}.
+     *
+     * @param template  The template
+     * @param beanClass The class of the beans to render
+     * @param <T>       The type of the bean
+     * @return The compiled template
+     * @throws IllegalArgumentException If a placeholder refers to an unknown property
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanMessageTemplate<T> of(String template, Class<T> beanClass) {
+        Map<String, BeanMessageTemplate<?>> templates = TEMPLATES.get(beanClass);
+        BeanMessageTemplate<?> compiled;
+        synchronized (templates) {
+            compiled = templates.get(template);
+        }
+        if (compiled == null) {
+            // the template is compiled without holding the lock, a concurrent miss keeps the first template
+            compiled = compile(template, beanClass);
+            synchronized (templates) {
+                BeanMessageTemplate<?> previous = templates.putIfAbsent(template, compiled);
+                if (previous != null) {
+                    compiled = previous;
+                }
+            }
+        }
+        return (BeanMessageTemplate<T>) compiled;
+    }
+
+    /**
+     * Renders the template with the properties of the given bean.
+     *
+     * @param template The template
+     * @param bean     The bean
+     * @return The rendered text
+     * @throws IllegalArgumentException If a placeholder refers to an unknown property
+     */
+    @SuppressWarnings("unchecked")
+    public static String render(String template, Object bean) {
+        if (bean == null) {
+            throw new IllegalArgumentException("The bean must not be null.");
+        }
+        return of(template, (Class<Object>) bean.getClass()).render(bean);
+    }
+
+    /**
+     * Renders this template with the properties of the given bean.
+     *
+     * @param bean The bean
+     * @return The rendered text
+     */
+    public String render(T bean) {
+        if (accessors.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder(literalLength + 16 * accessors.length);
+        builder.append(literals[0]);
+        for (int i = 0; i < accessors.length; i++) {
+            Object value = bean;
+            for (MethodHandle accessor : accessors[i]) {
+                if (value == null) {
+                    break;
+                }
+                value = invoke(accessor, value);
+            }
+            if (value != null) {
+                builder.append(value);
+            }
+            builder.append(literals[i + 1]);
+        }
+        return builder.toString();
+    }
+
+    private static Object invoke(MethodHandle accessor, Object target) {
+        try {
+            return (Object) accessor.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("The property cannot be read.", t);
+        }
+    }
+
+    private static BeanMessageTemplate<?> compile(String template, Class<?> beanClass) {
+        List<String> literals = new ArrayList<>();
+        List<MethodHandle[]> accessors = new ArrayList<>();
+
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < template.length()) {
+            int start = template.indexOf('{', position);
+            int end = start < 0 ? -1 : template.indexOf('}', start);
+            if (end < 0) {
+                break;
+            }
+            String path = template.substring(start + 1, end).trim();
+            if (!isPath(path)) {
+                literal.append(template, position, start + 1);
+                position = start + 1;
+                continue;
+            }
+            literal.append(template, position, start);
+            literals.add(literal.toString());
+            literal.setLength(0);
+            accessors.add(resolve(beanClass, path));
+            position = end + 1;
+        }
+        literal.append(template, position, template.length());
+        literals.add(literal.toString());
+
+        return new BeanMessageTemplate<>(literals.toArray(new String[0]), accessors.toArray(new MethodHandle[0][]));
+    }
+
+    private static boolean isPath(String path) {
+        if (path.isEmpty()) {
+            return false;
+        }
+        for (String name : path.split("\\.", -1)) {
+            if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+                return false;
+            }
+            for (int i = 1; i < name.length(); i++) {
+                if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static MethodHandle[] resolve(Class<?> beanClass, String path) {
+        String[] names = path.split("\\.");
+        MethodHandle[] handles = new MethodHandle[names.length];
+        Class<?> type = beanClass;
+        for (int i = 0; i < names.length; i++) {
+            Method getter = findGetter(type, names[i]);
+            if (getter == null) {
+                throw new IllegalArgumentException("The property '" + path + "' is not readable on " + beanClass.getName() + ".");
+            }
+            handles[i] = unreflect(getter);
+            type = getter.getReturnType();
+        }
+        return handles;
+    }
+
+    private static Method findGetter(Class<?> type, String name) {
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String candidate : new String[]{"get" + suffix, "is" + suffix, name}) {
+            try {
+                Method method = type.getMethod(candidate);
+                if (method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // try the next naming convention
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflect(Method getter) {
+        try {
+            if (!Modifier.isPublic(getter.getDeclaringClass().getModifiers())) {
+                getter.setAccessible(true);
+            }
+            return MethodHandles.lookup().unreflect(getter).asType(ACCESSOR_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalArgumentException("The property " + getter.getName() + " of " + getter.getDeclaringClass().getName() + " cannot be accessed.", e);
+        }
+    }
+
+}
@@ -2,14 +2,34 @@ package org.claspina.confirmdialog.i18n;
 
 import com.vaadin.flow.server.VaadinSession;
 import org.claspina.confirmdialog.ButtonType;
+import org.claspina.confirmdialog.i18n.captions.ButtonCaptionCatalog;
 import org.claspina.confirmdialog.i18n.captions.ButtonCaptions;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.Serializable;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Locale;
+import java.util.Map;
+import java.util.PropertyResourceBundle;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Manages the translation of button captions.
+ * <p>
+ * Each language is resolved only once into a table of captions indexed by the ordinal of the {@link ButtonType}.
+ * The tables are kept in a lock-free cache, so a translation is a single array read after the first lookup.
+ * <p>
+ * The captions can be overridden with a {@link ButtonCaptionSource}. A table is reloaded, as soon as the version of
+ * the source changes. If a refresh interval is configured, the tables are additionally reloaded in the background
+ * shortly before they expire, so that request threads do not wait for the source.
  *
  * @author Dieter Steinwedel
  * @author Carlos Laspina
@@ -20,6 +40,83 @@ public class ButtonCaptionFactory implements Serializable {
 
     public static final String LANGUAGE_SESSION_KEY = "messagebox_language";
 
+    private static final ButtonType[] BUTTON_TYPES = ButtonType.values();
+
+    /**
+     * The share of the refresh interval, after which a table is reloaded in the background.
+     */
+    private static final double REFRESH_AHEAD_FACTOR = 0.75;
+
+    /**
+     * Keeps the resolved caption tables per language. It is rebuilt lazily after deserialization.
+     */
+    private transient volatile ConcurrentMap<Locale, CaptionTable> captionTables;
+
+    private volatile ButtonCaptionSource captionSource;
+
+    private volatile long refreshInterval;
+
+    private final AtomicLong reloadCount = new AtomicLong();
+
+    private volatile long lastReloadTime;
+
+    /**
+     * Sets the source of the captions, that override the built-in captions. All cached captions are discarded.
+     *
+     * @param captionSource The new source or <code>null</code> to use the built-in captions only
+     */
+    public void setCaptionSource(ButtonCaptionSource captionSource) {
+        this.captionSource = captionSource;
+        this.captionTables = null;
+    }
+
+    /**
+     * Returns the source of the captions, that override the built-in captions.
+     *
+     * @return The source or <code>null</code>, if none is configured
+     */
+    public ButtonCaptionSource getCaptionSource() {
+        return captionSource;
+    }
+
+    /**
+     * Sets the time in milliseconds, after which the cached captions of a language expire. Shortly before, they are
+     * reloaded in the background. The default value <code>0</code> means, that the captions are only reloaded, if the
+     * version of the {@link ButtonCaptionSource} changes.
+     *
+     * @param refreshInterval The refresh interval in milliseconds
+     */
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = Math.max(0, refreshInterval);
+    }
+
+    /**
+     * Returns the time in milliseconds, after which the cached captions of a language expire.
+     *
+     * @return The refresh interval in milliseconds
+     */
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    /**
+     * Returns the number of times, the captions of a language were loaded or reloaded.
+     *
+     * @return The number of reloads
+     */
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    /**
+     * Returns the time of the last load or reload in milliseconds since the epoch.
+     *
+     * @return The time of the last reload or <code>0</code>, if nothing was loaded so far
+     */
+    public long getLastReloadTime() {
+        return lastReloadTime;
+    }
+
     /**
      * Translates the caption for the given buttonType.
      *
@@ -28,25 +125,208 @@ public class ButtonCaptionFactory implements Serializable {
      * @return The translated caption
      */
     public String translate(ButtonType buttonType, Locale defaultLanguage) {
+        return translateFor(buttonType, resolveLanguage(defaultLanguage));
+    }
+
+    /**
+     * Translates the caption for the given buttonType in exactly the given language. The session language is not
+     * consulted, so this method can be used safely outside of a request thread.
+     *
+     * @param buttonType The ButtonType
+     * @param locale     The language or <code>null</code> for English
+     * @return The translated caption
+     */
+    public String translateFor(ButtonType buttonType, Locale locale) {
         if (buttonType == null) {
             return "";
         }
+        return getCaptions(locale)[buttonType.ordinal()];
+    }
 
-        ResourceBundle resourceBundle = null;
-        String basename = ButtonCaptions.class.getName();
+    /**
+     * Translates the captions for the given buttonTypes in exactly the given language.
+     *
+     * @param locale      The language or <code>null</code> for English
+     * @param buttonTypes The ButtonTypes
+     * @return The translated captions in the same order as the given buttonTypes
+     */
+    public String[] translateAll(Locale locale, ButtonType... buttonTypes) {
+        String[] captions = getCaptions(locale);
+        String[] result = new String[buttonTypes.length];
+        for (int i = 0; i < buttonTypes.length; i++) {
+            result[i] = buttonTypes[i] == null ? "" : captions[buttonTypes[i].ordinal()];
+        }
+        return result;
+    }
 
-        try {
-            Locale locale = defaultLanguage;
-            Object value = VaadinSession.getCurrent().getAttribute(LANGUAGE_SESSION_KEY);
-            if (value != null && value instanceof Locale) {
+    /**
+     * Returns the language to use for the captions. If a session language is configured in the current
+     * {@link VaadinSession}, it is returned. Otherwise the default language is returned. If there is no current
+     * session, e.g. in a background thread, the default language is returned as well.
+     *
+     * @param defaultLanguage The default language
+     * @return The language to use for the captions
+     */
+    public Locale resolveLanguage(Locale defaultLanguage) {
+        Locale locale = defaultLanguage == null ? Locale.ENGLISH : defaultLanguage;
+        VaadinSession session = VaadinSession.getCurrent();
+        if (session != null) {
+            Object value = session.getAttribute(LANGUAGE_SESSION_KEY);
+            if (value instanceof Locale) {
                 locale = (Locale) value;
             }
+        }
+        return locale;
+    }
+
+    /**
+     * Returns the captions for the given language, indexed by the ordinal of the {@link ButtonType}.
+     * The returned array is shared and must not be modified.
+     *
+     * @param locale The language or <code>null</code> for English
+     * @return The captions for all button types
+     */
+    protected String[] getCaptions(Locale locale) {
+        return getCaptionTable(locale == null ? Locale.ENGLISH : locale).captions;
+    }
+
+    private CaptionTable getCaptionTable(Locale locale) {
+        ConcurrentMap<Locale, CaptionTable> tables = captionTables;
+        if (tables == null) {
+            tables = new ConcurrentHashMap<>();
+            captionTables = tables;
+        }
+
+        CaptionTable table = tables.get(locale);
+        ButtonCaptionSource source = captionSource;
+        long version = source == null ? 0 : source.getVersion();
+        if (table == null || table.version != version || table.isExpired(refreshInterval)) {
+            table = loadTable(locale, table == null ? null : table.base, source, version);
+            tables.put(locale, table);
+        } else if (table.isRefreshDue(refreshInterval) && table.startRefresh()) {
+            final CaptionTable expiring = table;
+            final ConcurrentMap<Locale, CaptionTable> target = tables;
+            ForkJoinPool.commonPool().execute(() -> {
+                CaptionTable refreshed = loadTable(locale, expiring.base, source, version);
+                target.replace(locale, expiring, refreshed);
+            });
+        }
+        return table;
+    }
+
+    private CaptionTable loadTable(Locale locale, String[] base, ButtonCaptionSource source, long version) {
+        if (base == null) {
+            base = loadCaptions(locale).clone();
+        }
+        String[] captions = base;
+        if (source != null) {
+            Map<ButtonType, String> overrides = source.getCaptions(locale);
+            if (!overrides.isEmpty()) {
+                captions = base.clone();
+                for (Map.Entry<ButtonType, String> override : overrides.entrySet()) {
+                    captions[override.getKey().ordinal()] = override.getValue();
+                }
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        reloadCount.incrementAndGet();
+        lastReloadTime = now;
+        return new CaptionTable(base, captions, version, now);
+    }
+
+    /**
+     * Loads the captions for the given language. This method is called once per language, the result is cached.
+     * <p>
+     * The captions are taken from the {@link ButtonCaptionCatalog}. Resource bundles named
+     * <code>ButtonCaptions_xx</code>, that are supplied by the application, override the captions of the catalog.
+     *
+     * @param locale The language
+     * @return The captions for all button types, indexed by the ordinal of the {@link ButtonType}
+     */
+    protected String[] loadCaptions(Locale locale) {
+        String[] captions = ButtonCaptionCatalog.lookup(locale);
+        if (locale != null && !locale.getLanguage().isEmpty()) {
+            applyBundle(captions, locale.getLanguage());
+            if (!locale.getCountry().isEmpty()) {
+                applyBundle(captions, locale.getLanguage() + "_" + locale.getCountry());
+            }
+        }
+        return captions;
+    }
+
+    /**
+     * Overrides the captions with the entries of the resource bundle <code>ButtonCaptions_&lt;suffix&gt;</code>, if
+     * the application supplies such a bundle as class or properties file. Only the classpath is checked, if no such
+     * bundle exists.
+     *
+     * @param captions The captions to override
+     * @param suffix   The language suffix of the bundle, e.g. <code>de</code> or <code>pt_BR</code>
+     */
+    private void applyBundle(String[] captions, String suffix) {
+        String bundleName = ButtonCaptions.class.getName() + "_" + suffix;
+        String resourceName = bundleName.replace('.', '/');
+        ClassLoader classLoader = ButtonCaptions.class.getClassLoader();
+
+        ResourceBundle resourceBundle = null;
+        try {
+            if (classLoader.getResource(resourceName + ".class") != null) {
+                resourceBundle = (ResourceBundle) Class.forName(bundleName, true, classLoader).newInstance();
+            } else {
+                URL url = classLoader.getResource(resourceName + ".properties");
+                if (url != null) {
+                    try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                        resourceBundle = new PropertyResourceBundle(reader);
+                    }
+                }
+            }
+        } catch (ReflectiveOperationException | ClassCastException | IOException e) {
+            throw new IllegalStateException("The button captions '" + bundleName + "' cannot be loaded.", e);
+        }
+
+        if (resourceBundle != null) {
+            for (ButtonType buttonType : BUTTON_TYPES) {
+                if (resourceBundle.containsKey(buttonType.name())) {
+                    captions[buttonType.ordinal()] = resourceBundle.getString(buttonType.name());
+                }
+            }
+        }
+    }
+
+    /**
+     * The cached captions of a language.
+     */
+    private static final class CaptionTable {
+
+        private final String[] base;
+
+        private final String[] captions;
+
+        private final long version;
+
+        private final long loadedAt;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
 
-            resourceBundle = ResourceBundle.getBundle(basename, locale);
-        } catch (Throwable t) {
-            resourceBundle = ResourceBundle.getBundle(basename, Locale.ENGLISH);
+        private CaptionTable(String[] base, String[] captions, long version, long loadedAt) {
+            this.base = base;
+            this.captions = captions;
+            this.version = version;
+            this.loadedAt = loadedAt;
         }
-        return resourceBundle.getString(buttonType.name());
+
+        private boolean isExpired(long refreshInterval) {
+            return refreshInterval > 0 && System.currentTimeMillis() - loadedAt >= refreshInterval;
+        }
+
+        private boolean isRefreshDue(long refreshInterval) {
+            return refreshInterval > 0 && System.currentTimeMillis() - loadedAt >= refreshInterval * REFRESH_AHEAD_FACTOR;
+        }
+
+        private boolean startRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
     }
 
-}
\ No newline at end of file
+}
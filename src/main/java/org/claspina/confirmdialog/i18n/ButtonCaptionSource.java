@@ -0,0 +1,36 @@
+package org.claspina.confirmdialog.i18n;
+
+import org.claspina.confirmdialog.ButtonType;
+
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A source of button captions, that override the built-in captions of the {@link ButtonCaptionFactory}. You can
+ * implement this interface to load the captions e.g. from a database.
+ *
+ * @author Carlos Laspina
+ */
+public interface ButtonCaptionSource extends Serializable {
+
+    /**
+     * Returns the captions, that override the built-in captions for the given language. Button types, that are not
+     * contained in the returned map, keep their built-in caption.
+     *
+     * @param locale The language
+     * @return The overriding captions, never <code>null</code>
+     */
+    public Map<ButtonType, String> getCaptions(Locale locale);
+
+    /**
+     * Returns the version of the captions. The {@link ButtonCaptionFactory} reloads its cached captions, as soon as
+     * the version changes. Sources, that never change, can keep the default implementation.
+     *
+     * @return The version of the captions
+     */
+    public default long getVersion() {
+        return 0;
+    }
+
+}
@@ -0,0 +1,194 @@
+package org.claspina.confirmdialog.i18n;
+
+import java.io.Serializable;
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Objects;
+import java.util.ResourceBundle;
+
+/**
+ * Manages the translation of dialog captions and messages by key. The patterns are read from a resource bundle and
+ * use the syntax of {@link MessageFormat}, e.g. <code>delete.confirm=Delete {0} items?</code>.
+ * <p>
+ * Each pattern is parsed only once per language. The parsed formatters are kept in a bounded cache, that evicts the
+ * least recently used formatter, so formatting a message does not parse anything, once the cache is warm. Each
+ * message is formatted by a clone of the cached formatter, so concurrent sessions do not wait for each other.
+ *
+ * @author Carlos Laspina
+ */
+public class DialogMessageFactory implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The default maximum number of cached formatters.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 512;
+
+    private final String baseName;
+
+    private final int cacheSize;
+
+    /**
+     * Keeps the parsed formatters per key and language in access order. It is only accessed while it is locked and
+     * rebuilt lazily after deserialization.
+     */
+    private transient volatile Map<FormatKey, MessageFormat> formats;
+
+    /**
+     * Creates a factory without a resource bundle. Every key is translated to itself.
+     */
+    public DialogMessageFactory() {
+        this(null);
+    }
+
+    /**
+     * Creates a factory, that reads the patterns from the given resource bundle.
+     *
+     * @param baseName The base name of the resource bundle, e.g. <code>com.example.DialogMessages</code>
+     */
+    public DialogMessageFactory(String baseName) {
+        this(baseName, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a factory, that reads the patterns from the given resource bundle.
+     *
+     * @param baseName  The base name of the resource bundle, e.g. <code>com.example.DialogMessages</code>
+     * @param cacheSize The maximum number of cached formatters
+     */
+    public DialogMessageFactory(String baseName, int cacheSize) {
+        if (cacheSize < 1) {
+            throw new IllegalArgumentException("The cache size must be at least 1.");
+        }
+        this.baseName = baseName;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Translates the pattern for the given key and formats it with the given arguments.
+     *
+     * @param key    The key of the pattern
+     * @param locale The language
+     * @param args   The arguments of the pattern
+     * @return The formatted message
+     */
+    public String translate(String key, Locale locale, Object... args) {
+        if (key == null) {
+            return "";
+        }
+
+        // MessageFormat is not thread-safe, the clone copies the already parsed state, so nothing is parsed again
+        MessageFormat format = (MessageFormat) getFormat(key, locale).clone();
+        return format.format(args == null ? new Object[0] : args);
+    }
+
+    /**
+     * Returns the parsed formatter for the given key and language. The formatter is shared, so it must not be
+     * modified and should be cloned before formatting.
+     *
+     * @param key    The key of the pattern
+     * @param locale The language
+     * @return The parsed formatter
+     */
+    protected MessageFormat getFormat(String key, Locale locale) {
+        Map<FormatKey, MessageFormat> cache = getCache();
+        FormatKey formatKey = new FormatKey(key, locale);
+        MessageFormat format;
+        synchronized (cache) {
+            format = cache.get(formatKey);
+        }
+        if (format == null) {
+            // the pattern is loaded without holding the lock, a concurrent miss keeps the first formatter
+            format = new MessageFormat(loadPattern(key, locale), locale);
+            synchronized (cache) {
+                MessageFormat previous = cache.putIfAbsent(formatKey, format);
+                if (previous != null) {
+                    format = previous;
+                }
+            }
+        }
+        return format;
+    }
+
+    private Map<FormatKey, MessageFormat> getCache() {
+        Map<FormatKey, MessageFormat> cache = formats;
+        if (cache == null) {
+            synchronized (this) {
+                cache = formats;
+                if (cache == null) {
+                    cache = new LinkedHashMap<FormatKey, MessageFormat>(16, 0.75f, true) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        protected boolean removeEldestEntry(Map.Entry<FormatKey, MessageFormat> eldest) {
+                            return size() > cacheSize;
+                        }
+                    };
+                    formats = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Loads the pattern for the given key and language. This method is called once per key and language, as long as
+     * the formatter stays in the cache. If no pattern is found, the key itself is returned.
+     *
+     * @param key    The key of the pattern
+     * @param locale The language
+     * @return The pattern
+     */
+    protected String loadPattern(String key, Locale locale) {
+        if (baseName == null) {
+            return quote(key);
+        }
+        try {
+            return ResourceBundle.getBundle(baseName, locale).getString(key);
+        } catch (MissingResourceException e) {
+            return quote(key);
+        }
+    }
+
+    private static String quote(String text) {
+        return "'" + text.replace("'", "''") + "'";
+    }
+
+    /**
+     * The cache key of a formatter.
+     */
+    private static final class FormatKey {
+
+        private final String key;
+
+        private final Locale locale;
+
+        private FormatKey(String key, Locale locale) {
+            this.key = key;
+            this.locale = locale;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FormatKey)) {
+                return false;
+            }
+            FormatKey other = (FormatKey) o;
+            return key.equals(other.key) && Objects.equals(locale, other.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * key.hashCode() + Objects.hashCode(locale);
+        }
+
+    }
+
+}
@@ -0,0 +1,241 @@
+package org.claspina.confirmdialog.i18n;
+
+import org.claspina.confirmdialog.ButtonType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A {@link ButtonCaptionSource}, that reads the captions from properties files in a directory. The files are named
+ * like resource bundles, e.g. <code>ButtonCaptions.properties</code> for all languages,
+ * <code>ButtonCaptions_de.properties</code> or <code>ButtonCaptions_pt_BR.properties</code>. The keys are the names
+ * of the {@link ButtonType}s. The files must be UTF-8 encoded.
+ * <p>
+ * The directory is watched for changes. A change is loaded in a background thread into a new immutable snapshot,
+ * that replaces the previous one atomically. Readers never lock and never wait for a reload.
+ * <p>
+ * A deserialized source, e.g. of a restored session, resolves to the open source of the same directory, so each
+ * directory is watched by a single thread per JVM. A source, that is no longer needed, should be closed.
+ *
+ * @author Carlos Laspina
+ */
+public class FileButtonCaptionSource implements ButtonCaptionSource, Closeable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileButtonCaptionSource.class);
+
+    private static final String FILE_PREFIX = "ButtonCaptions";
+
+    private static final String FILE_SUFFIX = ".properties";
+
+    /**
+     * Keeps the open sources by their directory, that deserialized sources resolve to.
+     */
+    private static final ConcurrentMap<String, FileButtonCaptionSource> OPEN_SOURCES = new ConcurrentHashMap<>();
+
+    private final String directory;
+
+    private transient volatile Snapshot snapshot;
+
+    private transient WatchService watchService;
+
+    /**
+     * Creates the source, loads the captions and starts watching the directory for changes.
+     *
+     * @param directory The directory, that contains the properties files
+     * @throws IOException If the directory cannot be watched
+     */
+    public FileButtonCaptionSource(Path directory) throws IOException {
+        this.directory = directory.toAbsolutePath().toString();
+        this.snapshot = new Snapshot(Collections.emptyMap(), 0, 0);
+        reload();
+        startWatching();
+        OPEN_SOURCES.putIfAbsent(this.directory, this);
+    }
+
+    /**
+     * See {@link ButtonCaptionSource#getCaptions(Locale)}
+     */
+    @Override
+    public Map<ButtonType, String> getCaptions(Locale locale) {
+        Map<String, Map<ButtonType, String>> captions = snapshot.captions;
+        Map<ButtonType, String> result = new EnumMap<>(ButtonType.class);
+        putAll(result, captions.get(""));
+        if (locale != null && !locale.getLanguage().isEmpty()) {
+            putAll(result, captions.get(locale.getLanguage()));
+            if (!locale.getCountry().isEmpty()) {
+                putAll(result, captions.get(locale.getLanguage() + "_" + locale.getCountry()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * See {@link ButtonCaptionSource#getVersion()}
+     */
+    @Override
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * Returns the number of reloads since this source was created.
+     *
+     * @return The number of reloads
+     */
+    public long getReloadCount() {
+        return snapshot.version;
+    }
+
+    /**
+     * Returns the time of the last reload in milliseconds since the epoch.
+     *
+     * @return The time of the last reload
+     */
+    public long getLastReloadTime() {
+        return snapshot.timestamp;
+    }
+
+    /**
+     * Reads all properties files of the directory and replaces the current captions. A file, that cannot be read,
+     * is skipped and logged.
+     */
+    public synchronized void reload() {
+        Map<String, Map<ButtonType, String>> captions = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(directory), FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                String suffix = getLanguageSuffix(file);
+                if (suffix != null) {
+                    try {
+                        captions.put(suffix, Collections.unmodifiableMap(read(file)));
+                    } catch (IOException e) {
+                        LOGGER.warn("The button captions '" + file + "' cannot be read.", e);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("The button captions in '" + directory + "' cannot be read.", e);
+            return;
+        }
+        snapshot = new Snapshot(Collections.unmodifiableMap(captions), snapshot.version + 1, System.currentTimeMillis());
+    }
+
+    /**
+     * Stops watching the directory. The captions loaded so far are kept.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        OPEN_SOURCES.remove(directory, this);
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private synchronized void startWatching() throws IOException {
+        watchService = Paths.get(directory).getFileSystem().newWatchService();
+        Paths.get(directory).register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+        final WatchService service = watchService;
+        Thread watcher = new Thread(() -> watch(service), "confirm-dialog-caption-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                key.pollEvents();
+                reload();
+                if (!key.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // the source was closed
+        }
+    }
+
+    private Object readResolve() throws IOException {
+        synchronized (OPEN_SOURCES) {
+            FileButtonCaptionSource source = OPEN_SOURCES.get(directory);
+            return source != null ? source : new FileButtonCaptionSource(Paths.get(directory));
+        }
+    }
+
+    private static String getLanguageSuffix(Path file) {
+        String name = file.getFileName().toString();
+        String suffix = name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length());
+        if (suffix.isEmpty()) {
+            return suffix;
+        }
+        return suffix.charAt(0) == '_' ? suffix.substring(1) : null;
+    }
+
+    private static Map<ButtonType, String> read(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        Map<ButtonType, String> captions = new EnumMap<>(ButtonType.class);
+        for (ButtonType buttonType : ButtonType.values()) {
+            String caption = properties.getProperty(buttonType.name());
+            if (caption != null) {
+                captions.put(buttonType, caption);
+            }
+        }
+        return captions;
+    }
+
+    private static void putAll(Map<ButtonType, String> target, Map<ButtonType, String> source) {
+        if (source != null) {
+            target.putAll(source);
+        }
+    }
+
+    /**
+     * An immutable state of the captions.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, Map<ButtonType, String>> captions;
+
+        private final long version;
+
+        private final long timestamp;
+
+        private Snapshot(Map<String, Map<ButtonType, String>> captions, long version, long timestamp) {
+            this.captions = captions;
+            this.version = version;
+            this.timestamp = timestamp;
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package org.claspina.confirmdialog.i18n.captions;
+
+import org.claspina.confirmdialog.ButtonType;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The catalog of all built-in button captions. All translations are kept in one table, so only a single class has
+ * to be loaded to resolve the captions of any language.
+ * <p>
+ * The first column holds the language tag, the following columns hold the captions in the order of the
+ * {@link ButtonType} constants.
+ *
+ * @author Carlos Laspina
+ */
+public final class ButtonCaptionCatalog {
+
+    private static final String[][] CATALOG = {
+            {"ar", "موافق", "أجهض", "ألغ", "نعم", "لا", "أغلق", "احفظ", "أعِد المحاولة", "تجاهل", "مساعدة"},
+            {"bg", "ОК", "Прекъсване", "Отказ", "Да", "Не", "Затваряне", "Запазване", "Повторение", "Пренебрегване", "Помощ"},
+            {"bs", "U redu", "Obustavi", "Odustani", "Da", "Ne", "Zatvori", "Snimi", "Pokušaj ponovo", "Ignoriši", "Pomoć"},
+            {"ca", "D'acord", "Interromp", "Cancel·la", "Sí", "No", "Tanca", "Desa", "Reintenta", "Ignora", "Ajuda"},
+            {"cs", "OK", "Přerušit", "Zrušit", "Ano", "Ne", "Zavřít", "Uložit", "Zkusit znovu", "Ignorovat", "Nápověda"},
+            {"da", "O.k.", "Afbryd", "Annullér", "Ja", "Nej", "Luk", "Gem", "Forsøg igen", "Ignorér", "Hjælp"},
+            {"de", "OK", "Abbrechen", "Abbrechen", "Ja", "Nein", "Schließen", "Speichern", "Erneut versuchen", "Ignorieren", "Hilfe"},
+            {"el", "Εντάξει", "Εγκατάλειψη", "Ακύρωση", "Ναι", "Όχι", "Κλείσιμο", "Αποθήκευση", "Προσπάθεια ξανά", "Αγνόηση", "Βοήθεια"},
+            {"en", "OK", "Abort", "Cancel", "Yes", "No", "Close", "Save", "Retry", "Ignore", "Help"},
+            {"eo", "Konfirmi", "Ĉesigi", "Rezigni", "Jes", "Ne", "Fermi", "Konsevi", "Provi denove", "Malatenti", "Helpo"},
+            {"es", "Aceptar", "Interrumpir", "Cancelar", "Sí", "No", "Cerrar", "Guardar", "Reintentar", "Ignorar", "Ayuda"},
+            {"et", "OK", "Katkesta", "Loobu", "Jah", "Ei", "Sulge", "Salvesta", "Proovi uuesti", "Eira", "Abi"},
+            {"eu", "Ados", "Galarazi", "Utzi", "Bai", "Ez", "Itxi", "Gorde", "Saiatu berriz", "Ez ikusi egin", "Laguntza"},
+            {"fa", "تأیید", "ساقط کردن", "لغو", "بله", "نه", "بستن", "ذخیره", "تلاش دوباره", "چشم\u200cپوشی", "کمک"},
+            {"fi", "OK", "Keskeytä", "Peru", "Kyllä", "Ei", "Sulje", "Tallenna", "Yritä uudelleen", "Ohita", "Ohje"},
+            {"fr", "Ok", "Interrompre", "Annuler", "Oui", "Non", "Fermer", "Enregistrer", "Réessayer", "Ignorer", "Aide"},
+            {"ga", "OK", "Tobscoir", "Cealaigh", "Tá", "Níl", "Dún", "Sábháil", "Atriail", "Déan neamhaird de", "Cabhair"},
+            {"gl", "Aceptar", "Interromper", "Cancelar", "Si", "Non", "Pechar", "Gardar", "Tentar de novo", "Ignorar", "Axuda"},
+            {"hu", "OK", "Megszakítás", "Mégsem", "Igen", "nem", "Bezárás", "Mentés", "Újra", "Figyelmen kívül hagyás", "Súgó"},
+            {"it", "OK", "Interrompi", "Annulla", "Sì", "No", "Chiudi", "Salva", "Riprova", "Ignora", "Aiuto"},
+            {"ja", "OK", "中止", "キャンセル", "はい", "いいえ", "閉じる", "保存", "再試行", "無視", "ヘルプ"},
+            {"kk", "ОК", "Доғару", "Қайту", "Иә", "Жоқ", "Жабу", "Сақтау", "Қайталау", "Елемеу", "Анықтама"},
+            {"ko", "확인", "중단", "취소", "예", "아니오", "닫기", "저장", "다시 시도", "무시", "도움말"},
+            {"lt", "Gerai", "Nutraukti", "Atsisakau", "Taip", "Ne", "Užverti", "Įrašyti", "Bandyti vėl", "Ignoruoti", "Pagalba"},
+            {"lv", "Labi", "Pārtraukt", "Atcelt", "Jā", "Nē", "Aizvērt", "Saglabāt", "Mēģināt vēlreiz", "Ignorēt", "Palīdzība"},
+            {"nb", "OK", "Avbryt", "Avbryt", "Ja", "Nei", "Lukk", "Lagre", "Prøv igjen", "Ignorer", "Hjelp"},
+            {"nl", "OK", "Afbreken", "Annuleren", "Ja", "Nee", "Sluiten", "Opslaan", "Opnieuw", "Negeren", "Help"},
+            {"nn", "OK", "Avbryt", "Avbryt", "Ja", "Nei", "Lukk", "Lagra", "Prøv på nytt", "Ignorer", "Hjelp"},
+            {"pa", "ਠੀਕ ਹੈ", "ਛੱਡੋ", "ਰੱਦ ਕਰੋ", "ਹਾਂ", "ਨਹੀਂ", "ਬੰਦ ਕਰੋ", "ਸੰਭਾਲੋ", "ਮੁੜ-ਕੋਸ਼ਿਸ਼", "ਅਣਡਿੱਠਾ", "ਮੱਦਦ"},
+            {"pl", "OK", "Przerwij", "Anuluj", "Tak", "Nie", "Zamknij", "Zapisz", "Powtórz", "Pomiń", "Pomoc"},
+            {"pt", "OK", "Interromper", "Cancelar", "Sim", "Não", "Fechar", "Gravar", "Repetir", "Ignorar", "Ajuda"},
+            {"pt_BR", "OK", "Cancelar", "Cancelar", "Sim", "Não", "Fechar", "Salvar", "Tentar novamente", "Ignorar", "Ajuda"},
+            {"ro", "OK", "Anulare", "Renunță", "Da", "Nu", "Închide", "Salvează", "Reîncercare", "Ignoră", "Ajutor"},
+            {"ru", "ОК", "Прервать", "Отмена", "Да", "Нет", "Закрыть", "Сохранить", "Повторить", "Игнорировать", "Справка"},
+            {"sk", "OK", "Prerušiť", "Zrušiť", "Áno", "Nie", "Zavrieť", "Uložiť", "Skúsiť znova", "Ignorovať", "Pomocník"},
+            {"sl", "V redu", "Prekini", "Prekliči", "Da", "Ne", "Zapri", "Shrani", "Poskusi znova", "Prezri", "Pomoč"},
+            {"sr", "У реду", "Обустави", "Одустани", "Да", "Не", "Затвори", "сачувај", "Покушај поново", "Игнориши", "Помоћ"},
+            {"sv", "Ok", "Avbryt", "Avbryt", "Ja", "Nej", "Stäng", "Spara", "Försök igen", "Ignorera", "Hjälp"},
+            {"th", "ตกลง", "ยุติ", "ยกเลิก", "ใช่", "ไม่", "ปิด", "บันทึก", "ลองใหม่", "ไม่สนใจ", "ช่วยเหลือ"},
+            {"tr", "Tamam", "İptal", "İptal", "Evet", "Hayır", "Kapat", "Kaydet", "Yeniden Dene", "Yoksay", "Yardım"},
+            {"ug", "تامام", "توختات", "ئەمەلدىن قالدۇر", "ھەئە", "ياق", "ياپ", "ساقلا", "قايتا سىنا", "پەرۋا قىلما", "ياردەم"},
+            {"uk", "Гаразд", "Перервати", "Скасувати", "Так", "Ні", "Закрити", "Зберегти", "Спробувати ще раз", "Ігнорувати", "Довідка"},
+            {"wa", "l' est Bon", "Abandner", "Rinoncî", "Oyi", "Neni", "Clôre", "Schaper", "Rissayî", "Passer houte", "Aidance"},
+            {"zh_CN", "确定", "放弃", "取消", "是", "否", "关闭", "保存", "重试", "忽略", "帮助"},
+            {"zh_TW", "確定", "中止", "取消", "是", "否", "關閉", "儲存", "重試", "忽略", "說明"},
+    };
+
+    private static final String FALLBACK_LANGUAGE = "en";
+
+    private static final Map<String, String[]> CAPTIONS = new HashMap<>();
+
+    static {
+        int columns = ButtonType.values().length + 1;
+        for (String[] row : CATALOG) {
+            if (row.length != columns) {
+                throw new IllegalStateException("The caption catalog is incomplete for language '" + row[0] + "'.");
+            }
+            String[] captions = new String[columns - 1];
+            System.arraycopy(row, 1, captions, 0, captions.length);
+            CAPTIONS.put(row[0], captions);
+        }
+    }
+
+    private ButtonCaptionCatalog() {
+    }
+
+    /**
+     * Returns the captions for the given language, indexed by the ordinal of the {@link ButtonType}. The lookup
+     * tries language and country first, then the language only. If the language is not part of the catalog, the
+     * English captions are returned.
+     *
+     * @param locale The language
+     * @return A new array with the captions for all button types
+     */
+    public static String[] lookup(Locale locale) {
+        String[] captions = null;
+        if (locale != null) {
+            if (!locale.getCountry().isEmpty()) {
+                captions = CAPTIONS.get(locale.getLanguage() + "_" + locale.getCountry());
+            }
+            if (captions == null) {
+                captions = CAPTIONS.get(locale.getLanguage());
+            }
+        }
+        if (captions == null) {
+            captions = CAPTIONS.get(FALLBACK_LANGUAGE);
+        }
+        return captions.clone();
+    }
+
+}
@@ -1,11 +1,34 @@
 package org.claspina.confirmdialog.i18n.captions;
 
+import org.claspina.confirmdialog.ButtonType;
+
+import java.util.ListResourceBundle;
+import java.util.Locale;
+
 /**
- * Default Button Captions in English
+ * Default Button Captions in English. The captions are taken from the {@link ButtonCaptionCatalog}.
+ * <p>
+ * Translations for further languages can still be supplied as resource bundles with this base name, e.g. a class
+ * <code>ButtonCaptions_xx</code> or a file <code>ButtonCaptions_xx.properties</code> in this package. They override
+ * the captions of the catalog.
  *
  * @author Dieter Steinwedel
  * @author Carlos Laspina
  */
-public class ButtonCaptions extends ButtonCaptions_en {
+public class ButtonCaptions extends ListResourceBundle {
+
+    /**
+     * See {@link ListResourceBundle#getContents()}
+     */
+    @Override
+    protected Object[][] getContents() {
+        ButtonType[] buttonTypes = ButtonType.values();
+        String[] captions = ButtonCaptionCatalog.lookup(Locale.ENGLISH);
+        Object[][] contents = new Object[buttonTypes.length][];
+        for (ButtonType buttonType : buttonTypes) {
+            contents[buttonType.ordinal()] = new Object[]{buttonType.name(), captions[buttonType.ordinal()]};
+        }
+        return contents;
+    }
 
 }
@@ -1,32 +0,0 @@
-package org.claspina.confirmdialog.i18n.captions;
-
-import org.claspina.confirmdialog.ButtonType;
-
-import java.util.ListResourceBundle;
-
-/**
- * I18n for the button captions. This class contains the translations for language code 'bg'.
- */
-public class ButtonCaptions_bg extends ListResourceBundle {
-
-    /**
-     * See {@link ListResourceBundle#getContents()}
-     */
-    @Override
-    protected Object[][] getContents() {
-        return new Object[][]{
-                {ButtonType.OK.name(), "ОК"},
-                {ButtonType.ABORT.name(), "Прекъсване"},
-                {ButtonType.CANCEL.name(), "Отказ"},
-                {ButtonType.YES.name(), "Да"},
-                {ButtonType.NO.name(), "Не"},
-                {ButtonType.CLOSE.name(), "Затваряне"},
-                {ButtonType.SAVE.name(), "Запазване"},
-                {ButtonType.RETRY.name(), "Повторение"},
-                {ButtonType.IGNORE.name(), "Пренебрегване"},
-                {ButtonType.HELP.name(), "Помощ"},
-        };
-    }
-
-}
-
@@ -14,6 +14,12 @@ public abstract class AbstractDialogIconFactory implements DialogIconFactory {
 
     private static final long serialVersionUID = 1L;
 
+    private static final DialogIconDescriptor QUESTION = DialogIconDescriptor.of(VaadinIcon.QUESTION, null);
+
+    private static final DialogIconDescriptor INFO = DialogIconDescriptor.of(VaadinIcon.INFO, null);
+
+    private static final DialogIconDescriptor WARNING = DialogIconDescriptor.of(VaadinIcon.WARNING, null);
+
     /**
      * The default constructor
      */
@@ -28,7 +34,7 @@ public abstract class AbstractDialogIconFactory implements DialogIconFactory {
      */
     @Override
     public Icon getQuestionIcon() {
-        return new Icon(VaadinIcon.QUESTION);
+        return QUESTION.create();
     }
 
     /**
@@ -38,7 +44,7 @@ public abstract class AbstractDialogIconFactory implements DialogIconFactory {
      */
     @Override
     public Icon getInfoIcon() {
-        return new Icon(VaadinIcon.INFO);
+        return INFO.create();
     }
 
     /**
@@ -48,7 +54,7 @@ public abstract class AbstractDialogIconFactory implements DialogIconFactory {
      */
     @Override
     public Icon getWarningIcon() {
-        return new Icon(VaadinIcon.WARNING);
+        return WARNING.create();
     }
 
     /**
@@ -58,7 +64,28 @@ public abstract class AbstractDialogIconFactory implements DialogIconFactory {
      */
     @Override
     public Icon getErrorIcon() {
-        return new Icon(VaadinIcon.WARNING);
+        return WARNING.create();
+    }
+
+    /**
+     * Returns the descriptor of the icon for the given severity.
+     *
+     * @param severity The severity
+     * @return The descriptor
+     */
+    @Override
+    public DialogIconDescriptor getIconDescriptor(DialogSeverity severity) {
+        switch (severity) {
+            case QUESTION:
+                return QUESTION;
+            case INFO:
+                return INFO;
+            case WARNING:
+            case ERROR:
+                return WARNING;
+            default:
+                return null;
+        }
     }
 
 }
@@ -0,0 +1,102 @@
+package org.claspina.confirmdialog.icons;
+
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+
+import java.io.Serializable;
+import java.util.Locale;
+
+/**
+ * An immutable description of a dialog icon: the icon name and the CSS class name, that styles the icon. The
+ * descriptor is resolved once and can be shared, while {@link #create()} creates a new icon component for each dialog.
+ *
+ * @author Carlos Laspina
+ */
+public final class DialogIconDescriptor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String collection;
+
+    private final String name;
+
+    private final String styleName;
+
+    /**
+     * Creates the descriptor.
+     *
+     * @param collection The icon collection, e.g. <code>vaadin</code>
+     * @param name       The icon name inside the collection, e.g. <code>info-circle</code>
+     * @param styleName  The CSS class name or <code>null</code>
+     */
+    public DialogIconDescriptor(String collection, String name, String styleName) {
+        if (collection == null || name == null) {
+            throw new IllegalArgumentException("The icon collection and name must not be null.");
+        }
+        this.collection = collection;
+        this.name = name;
+        this.styleName = styleName;
+    }
+
+    /**
+     * Creates the descriptor for a Vaadin icon.
+     *
+     * @param icon      The Vaadin icon
+     * @param styleName The CSS class name or <code>null</code>
+     * @return The descriptor
+     */
+    public static DialogIconDescriptor of(VaadinIcon icon, String styleName) {
+        return new DialogIconDescriptor("vaadin", getName(icon), styleName);
+    }
+
+    /**
+     * Returns the name of the Vaadin icon inside the <code>vaadin</code> collection, e.g. <code>info-circle</code>.
+     *
+     * @param icon The Vaadin icon
+     * @return The icon name
+     */
+    static String getName(VaadinIcon icon) {
+        return icon.name().toLowerCase(Locale.ENGLISH).replace('_', '-');
+    }
+
+    /**
+     * Returns the icon collection, e.g. <code>vaadin</code>.
+     *
+     * @return The icon collection
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * Returns the icon name inside the collection, e.g. <code>info-circle</code>.
+     *
+     * @return The icon name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the CSS class name, that styles the icon.
+     *
+     * @return The CSS class name or <code>null</code>
+     */
+    public String getStyleName() {
+        return styleName;
+    }
+
+    /**
+     * Creates a new icon component from this descriptor.
+     *
+     * @return The icon
+     */
+    public Icon create() {
+        Icon icon = new Icon(collection, name);
+        if (styleName != null) {
+            icon.addClassName(styleName);
+        }
+        return icon;
+    }
+
+}
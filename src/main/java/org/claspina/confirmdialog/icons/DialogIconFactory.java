@@ -42,4 +42,36 @@ public interface DialogIconFactory extends Serializable {
      */
     public Icon getErrorIcon();
 
+    /**
+     * Returns the descriptor of the icon for the given severity. Factories, that can describe their icons by name and
+     * CSS class name, should override this method, so that the descriptor can be resolved once and shared.
+     *
+     * @param severity The severity
+     * @return The descriptor or <code>null</code>, if the icon cannot be described
+     */
+    public default DialogIconDescriptor getIconDescriptor(DialogSeverity severity) {
+        return null;
+    }
+
+    /**
+     * Returns the icon for the given severity.
+     *
+     * @param severity The severity
+     * @return The icon
+     */
+    public default Icon getIcon(DialogSeverity severity) {
+        switch (severity) {
+            case QUESTION:
+                return getQuestionIcon();
+            case INFO:
+                return getInfoIcon();
+            case WARNING:
+                return getWarningIcon();
+            case ERROR:
+                return getErrorIcon();
+            default:
+                return null;
+        }
+    }
+
 }
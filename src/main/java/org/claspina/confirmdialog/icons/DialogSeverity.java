@@ -0,0 +1,41 @@
+package org.claspina.confirmdialog.icons;
+
+import java.util.Locale;
+
+/**
+ * An enumeration of the severities of a dialog. The value affects the displayed dialog icon.
+ *
+ * @author Carlos Laspina
+ */
+public enum DialogSeverity {
+
+    /**
+     * Self-explaining.
+     */
+    QUESTION,
+
+    /**
+     * Self-explaining.
+     */
+    INFO,
+
+    /**
+     * Self-explaining.
+     */
+    WARNING,
+
+    /**
+     * Self-explaining.
+     */
+    ERROR;
+
+    /**
+     * Returns the CSS class name, that is applied to the dialog icon of this severity.
+     *
+     * @return The CSS class name
+     */
+    public String getStyleName() {
+        return "confirm-dialog-icon-" + name().toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,114 @@
+package org.claspina.confirmdialog.icons;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.icon.Icon;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import org.claspina.confirmdialog.ButtonType;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Describes the glyphs of the minimal icon sprite, that is shipped as
+ * <code>frontend://confirm-dialog/confirm-dialog-icons.html</code>. The sprite contains only the glyphs, that the
+ * icon factories can return, so a page does not need to load the complete <code>vaadin-icons</code> iconset.
+ * <p>
+ * The shipped sprite matches {@link VaadinButtonIconFactory} and {@link VaadinDialogIconFactory}. For other factories,
+ * generate a sprite with the {@link IconSpriteGenerator} and configure the matching
+ * {@link #of(ButtonIconFactory, DialogIconFactory) IconSprite}.
+ *
+ * @author Carlos Laspina
+ */
+public final class IconSprite implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The name of the iconset, that is defined by the sprite.
+     */
+    public static final String ICONSET_NAME = "confirm-dialog";
+
+    private static final String VAADIN_COLLECTION = "vaadin";
+
+    private final Set<String> glyphs;
+
+    private IconSprite(Set<String> glyphs) {
+        this.glyphs = Collections.unmodifiableSet(glyphs);
+    }
+
+    /**
+     * Returns the sprite, that matches the default icon factories.
+     *
+     * @return The default sprite
+     */
+    public static IconSprite getDefault() {
+        return of(new VaadinButtonIconFactory(), new VaadinDialogIconFactory());
+    }
+
+    /**
+     * Returns the sprite, that contains all glyphs the given factories can return for the {@link ButtonType}s and
+     * {@link DialogSeverity}s.
+     *
+     * @param buttonIconFactory The button icon factory
+     * @param dialogIconFactory The dialog icon factory
+     * @return The sprite
+     */
+    public static IconSprite of(ButtonIconFactory buttonIconFactory, DialogIconFactory dialogIconFactory) {
+        Set<String> glyphs = new TreeSet<>();
+        for (ButtonType buttonType : ButtonType.values()) {
+            VaadinIcon icon = buttonIconFactory.getIcon(buttonType);
+            if (icon != null) {
+                glyphs.add(DialogIconDescriptor.getName(icon));
+            }
+        }
+        for (DialogSeverity severity : DialogSeverity.values()) {
+            DialogIconDescriptor descriptor = dialogIconFactory.getIconDescriptor(severity);
+            if (descriptor != null && VAADIN_COLLECTION.equals(descriptor.getCollection())) {
+                glyphs.add(descriptor.getName());
+            }
+        }
+        return new IconSprite(glyphs);
+    }
+
+    /**
+     * Returns the names of the glyphs in the sprite, e.g. <code>check</code>.
+     *
+     * @return The glyph names
+     */
+    public Set<String> getGlyphs() {
+        return glyphs;
+    }
+
+    /**
+     * Creates the icon for the given Vaadin icon. If the glyph is part of the sprite, a {@link SpriteIcon} is
+     * returned, otherwise an {@link Icon} of the complete iconset.
+     *
+     * @param icon The Vaadin icon
+     * @return The icon component
+     */
+    public Component createIcon(VaadinIcon icon) {
+        String name = DialogIconDescriptor.getName(icon);
+        return glyphs.contains(name) ? new SpriteIcon(name) : icon.create();
+    }
+
+    /**
+     * Creates the icon for the given descriptor. If the glyph is part of the sprite, a {@link SpriteIcon} is
+     * returned, otherwise an {@link Icon} created by the descriptor.
+     *
+     * @param descriptor The icon descriptor
+     * @return The icon component
+     */
+    public Component createIcon(DialogIconDescriptor descriptor) {
+        if (!VAADIN_COLLECTION.equals(descriptor.getCollection()) || !glyphs.contains(descriptor.getName())) {
+            return descriptor.create();
+        }
+        SpriteIcon icon = new SpriteIcon(descriptor.getName());
+        if (descriptor.getStyleName() != null) {
+            icon.addClassName(descriptor.getStyleName());
+        }
+        return icon;
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.claspina.confirmdialog.icons;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates the HTML import of an {@link IconSprite} from the <code>vaadin-icons</code> webjar. It is meant to be run
+ * at build time, e.g. with the <code>exec-maven-plugin</code> (see the <code>icon-sprite</code> profile of this
+ * add-on).
+ * <p>
+ * Arguments:
+ * <ol>
+ * <li>The output file, e.g. <code>src/main/webapp/frontend/confirm-dialog/confirm-dialog-icons.html</code></li>
+ * <li>Optional: the class name of the {@link ButtonIconFactory}, default {@link VaadinButtonIconFactory}</li>
+ * <li>Optional: the class name of the {@link DialogIconFactory}, default {@link VaadinDialogIconFactory}</li>
+ * </ol>
+ *
+ * @author Carlos Laspina
+ */
+public final class IconSpriteGenerator {
+
+    private static final String ICONSET_RESOURCE = "META-INF/resources/webjars/vaadin-icons/vaadin-icons.html";
+
+    private static final String GLYPH_PREFIX = "<g id=\"";
+
+    private IconSpriteGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Usage: IconSpriteGenerator <output file> [button icon factory] [dialog icon factory]");
+        }
+        ButtonIconFactory buttonIconFactory = args.length > 1
+                ? (ButtonIconFactory) Class.forName(args[1]).newInstance() : new VaadinButtonIconFactory();
+        DialogIconFactory dialogIconFactory = args.length > 2
+                ? (DialogIconFactory) Class.forName(args[2]).newInstance() : new VaadinDialogIconFactory();
+
+        generate(IconSprite.of(buttonIconFactory, dialogIconFactory), Paths.get(args[0]));
+    }
+
+    /**
+     * Writes the HTML import of the given sprite.
+     *
+     * @param sprite The sprite
+     * @param output The output file
+     * @throws IOException If the iconset cannot be read or the output cannot be written
+     */
+    public static void generate(IconSprite sprite, Path output) throws IOException {
+        Map<String, String> glyphs = readGlyphs(sprite.getGlyphs());
+        if (glyphs.size() != sprite.getGlyphs().size()) {
+            throw new IOException("The glyphs " + sprite.getGlyphs() + " are not all part of the vaadin-icons iconset.");
+        }
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            writer.write("<!-- Generated by " + IconSpriteGenerator.class.getName() + ". Contains glyphs of vaadin-icons, Apache License 2.0. -->\n");
+            writer.write("<link rel=\"import\" href=\"../bower_components/iron-icon/iron-icon.html\">\n");
+            writer.write("<link rel=\"import\" href=\"../bower_components/iron-iconset-svg/iron-iconset-svg.html\">\n\n");
+            writer.write("<iron-iconset-svg name=\"" + IconSprite.ICONSET_NAME + "\" size=\"16\">\n");
+            writer.write("<svg><defs>\n");
+            for (String glyph : glyphs.values()) {
+                writer.write(glyph);
+                writer.write('\n');
+            }
+            writer.write("</defs></svg>\n");
+            writer.write("</iron-iconset-svg>\n");
+        }
+    }
+
+    private static Map<String, String> readGlyphs(Set<String> names) throws IOException {
+        InputStream stream = IconSpriteGenerator.class.getClassLoader().getResourceAsStream(ICONSET_RESOURCE);
+        if (stream == null) {
+            throw new IOException("The iconset " + ICONSET_RESOURCE + " is not on the classpath.");
+        }
+
+        Map<String, String> glyphs = new TreeMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith(GLYPH_PREFIX)) {
+                    String name = line.substring(GLYPH_PREFIX.length(), line.indexOf('"', GLYPH_PREFIX.length()));
+                    if (names.contains(name)) {
+                        glyphs.put(name, line);
+                    }
+                }
+            }
+        }
+        return glyphs;
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.claspina.confirmdialog.icons;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.HasStyle;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.dependency.HtmlImport;
+
+/**
+ * An icon from the minimal icon sprite of the ConfirmDialog. Unlike {@link com.vaadin.flow.component.icon.Icon}, it
+ * does not import the complete <code>vaadin-icons</code> iconset, but only the glyphs of the {@link IconSprite}.
+ *
+ * @author Carlos Laspina
+ */
+@Tag("iron-icon")
+@HtmlImport("frontend://confirm-dialog/confirm-dialog-icons.html")
+public class SpriteIcon extends Component implements HasStyle {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the icon.
+     *
+     * @param name The name of the glyph inside the sprite, e.g. <code>check</code>
+     */
+    public SpriteIcon(String name) {
+        getElement().setAttribute("icon", IconSprite.ICONSET_NAME + ":" + name);
+    }
+
+}
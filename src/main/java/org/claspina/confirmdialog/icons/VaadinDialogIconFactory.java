@@ -5,6 +5,8 @@ import com.vaadin.flow.component.icon.VaadinIcon;
 
 
 /**
+ * The icons are colored by the CSS class name of their {@link DialogSeverity}.
+ *
  * @author Dieter Steinwedel
  * @author Carlos Laspina
  */
@@ -12,30 +14,48 @@ public class VaadinDialogIconFactory implements DialogIconFactory {
 
     private static final long serialVersionUID = 1L;
 
-    private Icon createIconLabel(VaadinIcon vaadinIcon, String color) {
-        Icon icon = new Icon(vaadinIcon);
-        icon.setColor(color);
-        return icon;
-    }
+    private static final DialogIconDescriptor QUESTION = DialogIconDescriptor.of(VaadinIcon.QUESTION_CIRCLE, DialogSeverity.QUESTION.getStyleName());
+
+    private static final DialogIconDescriptor INFO = DialogIconDescriptor.of(VaadinIcon.INFO_CIRCLE, DialogSeverity.INFO.getStyleName());
+
+    private static final DialogIconDescriptor WARNING = DialogIconDescriptor.of(VaadinIcon.EXCLAMATION_CIRCLE, DialogSeverity.WARNING.getStyleName());
+
+    private static final DialogIconDescriptor ERROR = DialogIconDescriptor.of(VaadinIcon.CLOSE_CIRCLE, DialogSeverity.ERROR.getStyleName());
 
     @Override
     public Icon getQuestionIcon() {
-        return createIconLabel(VaadinIcon.QUESTION_CIRCLE, "#ffc107");
+        return QUESTION.create();
     }
 
     @Override
     public Icon getInfoIcon() {
-        return createIconLabel(VaadinIcon.INFO_CIRCLE, "#007bff");
+        return INFO.create();
     }
 
     @Override
     public Icon getWarningIcon() {
-        return createIconLabel(VaadinIcon.EXCLAMATION_CIRCLE, "#fd7e14");
+        return WARNING.create();
     }
 
     @Override
     public Icon getErrorIcon() {
-        return createIconLabel(VaadinIcon.CLOSE_CIRCLE, "#dc3545");
+        return ERROR.create();
+    }
+
+    @Override
+    public DialogIconDescriptor getIconDescriptor(DialogSeverity severity) {
+        switch (severity) {
+            case QUESTION:
+                return QUESTION;
+            case INFO:
+                return INFO;
+            case WARNING:
+                return WARNING;
+            case ERROR:
+                return ERROR;
+            default:
+                return null;
+        }
     }
 
 }